@@ -0,0 +1,50 @@
+package com.kbsw.seasonthon.crew.cache;
+
+import com.kbsw.seasonthon.crew.event.CrewChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewSafetyRescoredEvent;
+import com.kbsw.seasonthon.crew.event.CrewStatusChangedEvent;
+import com.kbsw.seasonthon.global.cache.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 크루 검색 전체 건수 캐시 (정규화된 필터 키 -> count)
+ * TTL 이 짧은 근사값이며, 크루 생성/수정/삭제가 커밋되면 전부 무효화한다.
+ */
+@Component
+public class CrewCountCache {
+
+    private final TtlCache<String, Long> cache;
+
+    public CrewCountCache(@Value("${crew.search.count-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${crew.search.count-cache.max-size:1000}") int maxSize) {
+        this.cache = new TtlCache<>("crewCount", Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    public long get(String filterKey, Supplier<Long> counter) {
+        return cache.get(filterKey, counter);
+    }
+
+    public TtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(CrewStatusChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSafetyRescored(CrewSafetyRescoredEvent event) {
+        cache.invalidateAll();
+    }
+}
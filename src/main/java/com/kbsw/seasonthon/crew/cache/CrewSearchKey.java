@@ -0,0 +1,52 @@
+package com.kbsw.seasonthon.crew.cache;
+
+import com.kbsw.seasonthon.crew.dto.request.CrewSearchRequest;
+import com.kbsw.seasonthon.crew.enums.CrewSortType;
+import com.kbsw.seasonthon.crew.enums.TagMatchMode;
+import com.kbsw.seasonthon.crew.search.CrewTagIndex;
+import com.kbsw.seasonthon.crew.util.PaceParser;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 크루 검색 요청의 정규화된 캐시 키
+ * 같은 조건이면 표기(대소문자, 공백, 태그 순서, 페이스 표기)가 달라도 같은 키가 된다.
+ */
+public record CrewSearchKey(String filter, CrewSortType sortType, String direction, String page,
+                            int size, boolean withTotal, boolean fullDetail) {
+
+    public static CrewSearchKey of(CrewSearchRequest request) {
+        CrewSortType sortType = CrewSortType.resolve(request.getSortType(), request.getSortBy());
+        String page = request.getCursor() != null ? "cursor:" + request.getCursor().trim() : "page:" + request.getPage();
+        return new CrewSearchKey(filterKey(request), sortType, sortType.direction(request.getSortType(), request.getSortDirection()).name(),
+                page, request.getSize(), !Boolean.FALSE.equals(request.getWithTotal()),
+                Boolean.TRUE.equals(request.getFullDetail()));
+    }
+
+    // 정렬/페이지를 제외한 필터 조건 키 (count 캐시용)
+    public static String filterKey(CrewSearchRequest request) {
+        return String.join("|",
+                normalizeText(request.getKeyword()),
+                normalizeTags(request.getTags()),
+                TagMatchMode.from(request.getTagMode()).name(),
+                normalizeTags(request.getExcludeTags()),
+                normalizeText(request.getStartLocation()),
+                request.getStatus() != null ? request.getStatus().toUpperCase() : "",
+                request.getSafetyLevel() != null ? request.getSafetyLevel().toUpperCase() : "",
+                String.valueOf(request.getMaxDistance()),
+                request.getMinPace() != null ? String.valueOf(PaceParser.toSecondsPerKm(request.getMinPace())) : "",
+                String.valueOf(request.getStartTimeFrom()));
+    }
+
+    private static String normalizeText(String value) {
+        return value != null ? value.trim().toLowerCase() : "";
+    }
+
+    // 태그 색인/SQL 조건과 같은 규칙으로 정규화
+    private static String normalizeTags(List<String> tags) {
+        return CrewTagIndex.normalizeAll(tags).stream()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
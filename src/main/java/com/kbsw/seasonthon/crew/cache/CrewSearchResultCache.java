@@ -0,0 +1,61 @@
+package com.kbsw.seasonthon.crew.cache;
+
+import com.kbsw.seasonthon.crew.dto.response.CrewListPageResponse;
+import com.kbsw.seasonthon.crew.enums.CrewSortType;
+import com.kbsw.seasonthon.crew.event.CrewChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewSafetyRescoredEvent;
+import com.kbsw.seasonthon.crew.event.CrewStatusChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewParticipantChangedEvent;
+import com.kbsw.seasonthon.global.cache.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 크루 검색 결과 캐시 (정규화된 검색 요청 -> 리스트 응답)
+ * - 크루 생성/수정/삭제: 어떤 필터 결과에도 들어가거나 빠질 수 있으므로 전체 무효화
+ * - 참여자 변경: 해당 크루가 포함된 결과와 인기순(승인 인원순) 결과만 무효화
+ */
+@Component
+public class CrewSearchResultCache {
+
+    private final TtlCache<CrewSearchKey, CrewListPageResponse> cache;
+
+    public CrewSearchResultCache(@Value("${crew.search.result-cache.ttl-seconds:10}") long ttlSeconds,
+                                 @Value("${crew.search.result-cache.max-size:500}") int maxSize) {
+        this.cache = new TtlCache<>("crewSearchResult", Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    public CrewListPageResponse get(CrewSearchKey key, Supplier<CrewListPageResponse> loader) {
+        return cache.get(key, loader);
+    }
+
+    public TtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(CrewStatusChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSafetyRescored(CrewSafetyRescoredEvent event) {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantChanged(CrewParticipantChangedEvent event) {
+        Long crewId = event.getCrewId();
+        cache.invalidateIf((key, page) -> key.sortType() == CrewSortType.POPULAR
+                || page.getCrews().stream().anyMatch(crew -> crewId.equals(crew.getId())));
+    }
+}
@@ -0,0 +1,52 @@
+package com.kbsw.seasonthon.crew.cache;
+
+import com.kbsw.seasonthon.crew.event.CrewChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewParticipantChangedEvent;
+import com.kbsw.seasonthon.global.cache.TtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 내 크루 id 캐시 (userId -> 호스트/승인 참여 크루 id, 내림차순)
+ * - 참여 신청/승인/거절: 해당 사용자만 무효화
+ * - 크루 생성: 호스트만, 크루 삭제: 호스트와 그 크루를 가진 모든 사용자 무효화
+ */
+@Component
+public class MyCrewCache {
+
+    private final TtlCache<Long, List<Long>> cache;
+
+    public MyCrewCache(@Value("${crew.my-crews.cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${crew.my-crews.cache.max-size:10000}") int maxSize) {
+        this.cache = new TtlCache<>("myCrews", Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    public List<Long> get(Long userId, Supplier<List<Long>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public TtlCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantChanged(CrewParticipantChangedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        if (event.getType() == CrewChangedEvent.Type.CREATED) {
+            cache.invalidate(event.getHostId());
+        } else if (event.getType() == CrewChangedEvent.Type.DELETED) {
+            Long crewId = event.getCrewId();
+            cache.invalidate(event.getHostId());
+            cache.invalidateIf((userId, crewIds) -> crewIds.contains(crewId));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kbsw.seasonthon.crew.controller;
+
+import com.kbsw.seasonthon.crew.cache.CrewCountCache;
+import com.kbsw.seasonthon.crew.cache.CrewSearchResultCache;
+import com.kbsw.seasonthon.crew.cache.MyCrewCache;
+import com.kbsw.seasonthon.crew.enums.CrewExportFormat;
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.job.CrewLifecycleScheduler;
+import com.kbsw.seasonthon.crew.job.CrewSafetyRescoreJob;
+import com.kbsw.seasonthon.crew.service.CrewExportService;
+import com.kbsw.seasonthon.crew.sse.CrewSseBroker;
+import com.kbsw.seasonthon.global.cache.TtlCache;
+import com.kbsw.seasonthon.route.safety.RouteSafetyScorer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/admin/crews")
+@RequiredArgsConstructor
+@Tag(name = "Crew Admin", description = "크루 운영 API (관리자만 가능)")
+public class CrewAdminController {
+
+    private final CrewSearchResultCache crewSearchResultCache;
+    private final CrewCountCache crewCountCache;
+    private final MyCrewCache myCrewCache;
+    private final Optional<CrewLifecycleScheduler> crewLifecycleScheduler;
+    private final CrewExportService crewExportService;
+    private final CrewSseBroker crewSseBroker;
+    private final CrewSafetyRescoreJob crewSafetyRescoreJob;
+    private final RouteSafetyScorer routeSafetyScorer;
+
+    @GetMapping("/cache-stats")
+    @Operation(summary = "크루 검색 캐시 통계", description = "검색 결과 캐시, 전체 건수 캐시, 내 크루 캐시의 크기, 적중/미스/제거/무효화 횟수를 조회합니다.")
+    public ResponseEntity<List<TtlCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(List.of(crewSearchResultCache.stats(), crewCountCache.stats(), myCrewCache.stats()));
+    }
+
+    @GetMapping("/lifecycle-stats")
+    @Operation(summary = "모집 마감 스케줄러 지표", description = "시작 시간 경과/정원 도달로 마감 처리된 크루 수와 실행 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getLifecycleStats() {
+        return ResponseEntity.ok(crewLifecycleScheduler
+                .map(CrewLifecycleScheduler::stats)
+                .orElse(Map.of("enabled", false)));
+    }
+
+    @GetMapping("/sse-stats")
+    @Operation(summary = "실시간 알림 지표", description = "SSE 구독자/토픽 수와 발행/전송/버림/정리 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getSseStats() {
+        return ResponseEntity.ok(crewSseBroker.stats());
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "크루 내보내기",
+        description = "전체 크루를 NDJSON 또는 CSV 로 스트리밍합니다. 페이지 반복 조회 대신 사용하세요.\n\n" +
+                     "- format: ndjson(기본) / csv\n" +
+                     "- includeParticipants=true 면 참여자를 함께 내보냅니다. (CSV 는 참여자 한 명당 한 줄)\n" +
+                     "- status 로 모집 상태를 거를 수 있습니다."
+    )
+    public void exportCrews(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean includeParticipants,
+            @RequestParam(required = false) CrewStatus status,
+            HttpServletResponse response) throws IOException {
+
+        CrewExportFormat exportFormat;
+        try {
+            exportFormat = CrewExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다: " + format);
+        }
+
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("crews-" + LocalDate.now() + "." + exportFormat.getExtension())
+                .build()
+                .toString());
+        crewExportService.export(exportFormat, includeParticipants, status, response.getOutputStream());
+    }
+
+    @PostMapping("/safety-rescore")
+    @Operation(summary = "크루 안전 점수 재계산", description = "저장된 경유지를 안전 점수 격자로 다시 채점해 점수가 바뀐 크루만 갱신합니다.")
+    public ResponseEntity<Map<String, Object>> rescoreSafety() {
+        if (!routeSafetyScorer.isAvailable()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "안전 점수 격자가 설정되지 않았습니다.");
+        }
+        long started = System.currentTimeMillis();
+        int[] counts = crewSafetyRescoreJob.rescoreAll();
+        return ResponseEntity.ok(Map.of(
+                "scanned", counts[0],
+                "updated", counts[1],
+                "elapsedMs", System.currentTimeMillis() - started));
+    }
+}
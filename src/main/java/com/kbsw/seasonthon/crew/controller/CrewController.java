@@ -1,16 +1,22 @@
 package com.kbsw.seasonthon.crew.controller;
 
 import com.kbsw.seasonthon.crew.dto.request.CrewCreateRequest;
+import com.kbsw.seasonthon.crew.dto.request.CrewNearbyRequest;
 import com.kbsw.seasonthon.crew.dto.request.CrewSearchRequest;
 import com.kbsw.seasonthon.crew.dto.request.CrewUpdateRequest;
 import com.kbsw.seasonthon.crew.dto.request.ParticipantApprovalRequest;
+import com.kbsw.seasonthon.crew.dto.request.ParticipantBatchApprovalRequest;
 import com.kbsw.seasonthon.crew.dto.response.CrewApplyResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewApprovalResponse;
+import com.kbsw.seasonthon.crew.dto.response.CrewBatchApprovalResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewCreateResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewDetailResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewListPageResponse;
+import com.kbsw.seasonthon.crew.dto.response.CrewNearbyResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewUpdateResponse;
+import com.kbsw.seasonthon.crew.repository.CrewVersion;
 import com.kbsw.seasonthon.crew.service.CrewService;
+import com.kbsw.seasonthon.crew.sse.CrewSseBroker;
 import com.kbsw.seasonthon.security.oauth2.principal.PrincipalDetails;
 import com.kbsw.seasonthon.user.entity.User;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,9 +24,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/crews")
@@ -29,6 +39,7 @@ import org.springframework.web.bind.annotation.*;
 public class CrewController {
 
     private final CrewService crewService;
+    private final CrewSseBroker crewSseBroker;
 
     @PostMapping
     @Operation(summary = "크루 생성", description = "새로운 크루를 생성합니다.")
@@ -93,32 +104,118 @@ public class CrewController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/participants/approve-batch")
+    @Operation(
+        summary = "크루 참여 일괄 승인",
+        description = "여러 참여 신청을 한 번에 승인하거나 거절합니다. (호스트/관리자만 가능)\n\n" +
+                     "- decisions: [{ userId, approve }] 목록, 최대 500명\n" +
+                     "- 한 트랜잭션에서 처리되며 정원은 요청 순서대로 배정됩니다. (같은 요청의 거절로 빈 자리 포함)\n" +
+                     "- 정원 초과, 신청 내역 없음 등 반영되지 않은 항목은 결과의 message 로 알려줍니다."
+    )
+    public ResponseEntity<CrewBatchApprovalResponse> approveParticipants(
+            @PathVariable Long id,
+            @RequestBody ParticipantBatchApprovalRequest request,
+            @AuthenticationPrincipal PrincipalDetails principal) {
+
+        User user = principal.getUser();
+        CrewBatchApprovalResponse response = crewService.approveParticipants(id, request, user);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "크루 실시간 알림 (SSE)",
+        description = "크루의 참여 신청/승인/거절(participant), 모집 상태 변경(crew-status), 수정/삭제 알림을 받습니다.\n\n" +
+                     "- 상세 조회를 반복 호출하는 대신 사용하세요.\n" +
+                     "- resync 이벤트를 받으면 알림이 누락되었으니 상세를 다시 조회하세요."
+    )
+    public SseEmitter subscribeCrewEvents(@PathVariable Long id) {
+        crewService.getCrewVersion(id);
+        return crewSseBroker.subscribe(CrewSseBroker.crewTopic(id));
+    }
+
+    @GetMapping(value = "/me/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "내 크루 실시간 알림 (SSE)",
+        description = "내 참여 신청의 승인/거절, 내가 호스트인 크루의 새 신청, 참여 중인 크루의 모집 상태 변경을 받습니다."
+    )
+    public SseEmitter subscribeMyEvents(@AuthenticationPrincipal PrincipalDetails principal) {
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return crewSseBroker.subscribe(CrewSseBroker.userTopic(principal.getUser().getId()));
+    }
 
 
+
+    @GetMapping("/nearby")
+    @Operation(
+        summary = "주변 크루 조회",
+        description = "내 위치(lat, lon)에서 radiusKm 이내에 출발 지점이 있는 크루를 가까운 순으로 조회합니다.\n\n" +
+                     "- includeRoute=true 면 경로 범위까지의 거리로 검색합니다.\n" +
+                     "- status(기본 OPEN), maxDistance, startTimeFrom 필터와 함께 사용할 수 있습니다.\n\n" +
+                     "**예시:** `/api/crews/nearby?lat=36.3504&lon=127.3845&radiusKm=3`"
+    )
+    public ResponseEntity<CrewNearbyResponse> getNearbyCrews(@ModelAttribute CrewNearbyRequest request) {
+        
+        CrewNearbyResponse response = crewService.getNearbyCrews(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/me")
+    @Operation(summary = "내 크루 리스트 조회", description = "내가 호스트이거나 승인된 참여자인 크루를 최신순으로 조회합니다.\n\n" +
+                     "다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    public ResponseEntity<CrewListPageResponse> getMyCrews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal PrincipalDetails principal,
+            WebRequest webRequest) {
+
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        CrewListPageResponse response = crewService.getMyCrews(principal.getUser(), cursor, size);
+        return withETag(response, webRequest);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "크루 상세 조회", description = "특정 크루의 상세 정보를 조회합니다.")
-    public ResponseEntity<CrewDetailResponse> getCrewDetail(@PathVariable Long id) {
+    public ResponseEntity<CrewDetailResponse> getCrewDetail(@PathVariable Long id, WebRequest webRequest) {
+        
+        // 리비전만 먼저 조회해 If-None-Match 가 일치하면 참여자 로딩 없이 304
+        CrewVersion version = crewService.getCrewVersion(id);
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
         
         CrewDetailResponse response = crewService.getCrewDetail(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(CrewVersion.etag(response.getId(), response.getRevision()))
+            .lastModified(CrewVersion.toEpochMillis(response.getUpdatedAt()))
+            .body(response);
     }
 
     @GetMapping("/all")
-    @Operation(summary = "전체 크루 리스트 조회", description = "모든 크루를 페이징하여 조회합니다. 필터링 없이 전체 크루를 볼 수 있습니다.")
+    @Operation(summary = "전체 크루 리스트 조회", description = "모든 크루를 페이징하여 조회합니다. 필터링 없이 전체 크루를 볼 수 있습니다.\n\n" +
+                     "cursor 파라미터를 넘기면 커서 페이징으로 동작합니다. (첫 페이지는 `cursor=`, 이후에는 응답의 nextCursor 사용)")
     public ResponseEntity<CrewListPageResponse> getAllCrews(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
         
         CrewSearchRequest request = new CrewSearchRequest();
         request.setPage(page);
         request.setSize(size);
         request.setSortBy(sortBy);
         request.setSortDirection(sortDirection);
+        request.setCursor(cursor);
         
         CrewListPageResponse response = crewService.searchCrews(request);
-        return ResponseEntity.ok(response);
+        return withETag(response, webRequest);
     }
 
     @GetMapping
@@ -129,6 +226,8 @@ public class CrewController {
                      "- keyword: 제목, 설명 키워드 검색\n" +
                      "- startLocation: 시작 위치 검색\n" +
                      "- tags: 태그 검색 (여러 개 가능)\n" +
+                     "- tagMode: 태그 결합 방식 (OR 기본, AND, NOT)\n" +
+                     "- excludeTags: 제외할 태그 (여러 개 가능)\n" +
                      "- status: 크루 상태 검색\n" +
                      "- safetyLevel: 안전도 검색\n\n" +
                      "**필터링 필드 (실제 필터링 동작):**\n" +
@@ -140,12 +239,25 @@ public class CrewController {
                      "**예시:**\n" +
                      "- 전체 조회: `/api/crews`\n" +
                      "- 키워드 검색: `/api/crews?keyword=취준생`\n" +
-                     "- 실제 필터링: `/api/crews?maxDistance=10.0&minPace=6'00\"/km`"
+                     "- 실제 필터링: `/api/crews?maxDistance=10.0&minPace=6'00\"/km`\n\n" +
+                     "**커서 페이징 (무한 스크롤):**\n" +
+                     "- 첫 페이지: `/api/crews?cursor=&size=20`\n" +
+                     "- 다음 페이지: `/api/crews?cursor={nextCursor}&size=20` (정렬 조건은 동일하게 유지)"
     )
     public ResponseEntity<CrewListPageResponse> searchCrews(
-            @ModelAttribute CrewSearchRequest request) {
+            @ModelAttribute CrewSearchRequest request,
+            WebRequest webRequest) {
         
         CrewListPageResponse response = crewService.searchCrews(request);
-        return ResponseEntity.ok(response);
+        return withETag(response, webRequest);
+    }
+
+    // 리스트 ETag (페이지 구성 + 크루별 리비전) 가 일치하면 본문 없이 304
+    private ResponseEntity<CrewListPageResponse> withETag(CrewListPageResponse response, WebRequest webRequest) {
+        String etag = response.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 }
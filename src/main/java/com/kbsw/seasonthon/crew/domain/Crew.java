@@ -2,22 +2,36 @@ package com.kbsw.seasonthon.crew.domain;
 
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.util.PaceParser;
 import com.kbsw.seasonthon.global.base.domain.BaseEntity;
+import com.kbsw.seasonthon.global.util.PolylineCodec;
 import com.kbsw.seasonthon.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "crews")
-public class Crew extends BaseEntity {
+@Table(name = "crews", indexes = {
+        // 상태 필터 + 정렬 키 조합 (검색 정렬별 인덱스)
+        @Index(name = "idx_crews_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_crews_status_distance_km", columnList = "status, distance_km"),
+        @Index(name = "idx_crews_status_start_time", columnList = "status, start_time"),
+        @Index(name = "idx_crews_status_pace_seconds", columnList = "status, pace_seconds_per_km"),
+        // 인기순 정렬 (status = OPEN 범위에서 approved_count 역순 스캔)
+        @Index(name = "idx_crews_status_approved_count", columnList = "status, approved_count, id"),
+        // 내 크루 조회 (호스트 갈래)
+        @Index(name = "idx_crews_host_id", columnList = "host_id")
+})
+public class Crew extends BaseEntity implements CrewSortKeys {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -66,14 +80,30 @@ public class Crew extends BaseEntity {
     @Column
     private String pace;                 // 페이스 (예: "6'30\"/km")
 
+    @Column
+    private Integer paceSecondsPerKm;    // 페이스 정규화 값 (km 당 초, 필터/정렬용)
+
     @Column
     private LocalDateTime startTime;     // 시작 시간
 
-    @ElementCollection
-    @CollectionTable(name = "crew_waypoints", joinColumns = @JoinColumn(name = "crew_id"))
-    @Column(name = "waypoint")
+    // 승인된 참여자 수 (리스트/상세 조회 시 COUNT 쿼리를 피하기 위한 비정규화 컬럼)
+    @Column(nullable = false, columnDefinition = "int default 0")
+    @Builder.Default
+    private Integer approvedCount = 0;
+
+    // 정원 도달로 마감되었는지 여부 (자리가 나면 시작 전까지 다시 OPEN 으로 되돌린다)
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    @Builder.Default
+    private Boolean closedByCapacity = false;
+
+    // 경유지 좌표 (encoded polyline 한 컬럼, PolylineCodec 참고)
+    @Column(name = "waypoints_polyline", columnDefinition = "TEXT")
+    private String waypointsPolyline;
+
+    // 변경 리비전 (ETag 용). 크루 수정/참여자 변경 시 UPDATE ... revision + 1 로만 증가시킨다
+    @Column(nullable = false, columnDefinition = "bigint default 0")
     @Builder.Default
-    private List<String> waypoints = new ArrayList<>();
+    private Long revision = 0L;
 
     @ElementCollection
     @CollectionTable(name = "crew_tags", joinColumns = @JoinColumn(name = "crew_id"))
@@ -98,8 +128,17 @@ public class Crew extends BaseEntity {
     }
 
     public void updateWaypoints(List<String> waypoints) {
-        this.waypoints.clear();
-        this.waypoints.addAll(waypoints);
+        this.waypointsPolyline = PolylineCodec.encodeLatLon(waypoints);
+    }
+
+    // 경유지 좌표 [lat0, lon0, lat1, lon1, ...]
+    public double[] getCoordinates() {
+        return PolylineCodec.decode(waypointsPolyline);
+    }
+
+    // 기존 API 형식 ("lat,lon" 문자열 목록)
+    public List<String> getWaypoints() {
+        return PolylineCodec.toLatLonStrings(getCoordinates());
     }
 
     public void updateTags(List<String> tags) {
@@ -113,6 +152,14 @@ public class Crew extends BaseEntity {
 
     public void updatePace(String pace) {
         this.pace = pace;
+        this.paceSecondsPerKm = PaceParser.toSecondsPerKm(pace);
+    }
+
+    @PrePersist
+    private void initPaceSeconds() {
+        if (this.paceSecondsPerKm == null) {
+            this.paceSecondsPerKm = PaceParser.toSecondsPerKm(this.pace);
+        }
     }
 
     public void updateStartTime(LocalDateTime startTime) {
@@ -131,8 +178,7 @@ public class Crew extends BaseEntity {
         this.safetyScore = safetyScore;
         this.safetyLevel = SafetyLevel.fromScore(safetyScore);
         this.durationMin = durationMin;
-        this.waypoints.clear();
-        this.waypoints.addAll(waypoints);
+        this.waypointsPolyline = PolylineCodec.encodeLatLon(waypoints);
     }
 
     public boolean isHost(User user) {
@@ -146,4 +192,12 @@ public class Crew extends BaseEntity {
     public boolean canDelete(User user) {
         return isHost(user) || user.getRole().name().equals("ADMIN");
     }
+
+    // 빌더에서도 기존처럼 "lat,lon" 목록으로 경유지를 받는다
+    public static class CrewBuilder {
+        public CrewBuilder waypoints(List<String> waypoints) {
+            this.waypointsPolyline = PolylineCodec.encodeLatLon(waypoints);
+            return this;
+        }
+    }
 }
@@ -11,7 +11,13 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "crew_participants")
+@Table(name = "crew_participants", uniqueConstraints = {
+        // 동시 신청(더블 탭 등)에서도 크루당 사용자 한 건만 남도록 보장
+        @UniqueConstraint(name = "uk_crew_participants_crew_user", columnNames = {"crew_id", "user_id"})
+}, indexes = {
+        // 내 크루 조회 (승인된 참여 갈래): 인덱스만으로 crew_id 까지 읽는다
+        @Index(name = "idx_crew_participants_user_status_crew", columnList = "user_id, status, crew_id")
+})
 public class CrewParticipant extends BaseEntity {
 
     @Id
@@ -31,6 +37,8 @@ public class CrewParticipant extends BaseEntity {
     @Builder.Default
     private ParticipantStatus status = ParticipantStatus.APPLIED;
 
+    // 서비스의 승인/거절은 조건부 UPDATE 로 처리하며 (CrewParticipantRepository.changeStatus),
+    // 크루의 승인 인원 카운터도 CrewRepository.reserveSlot / releaseSlot 으로만 변경한다
     public void approve() {
         this.status = ParticipantStatus.APPROVED;
     }
@@ -0,0 +1,22 @@
+package com.kbsw.seasonthon.crew.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리스트 정렬/커서에 쓰이는 크루 값
+ * 엔티티(Crew)와 리스트 프로젝션(CrewListRow) 모두 같은 방식으로 커서를 만들 수 있게 한다.
+ */
+public interface CrewSortKeys {
+
+    Long getId();
+
+    Integer getApprovedCount();
+
+    LocalDateTime getCreatedAt();
+
+    Double getDistanceKm();
+
+    Integer getPaceSecondsPerKm();
+
+    LocalDateTime getStartTime();
+}
@@ -0,0 +1,40 @@
+package com.kbsw.seasonthon.crew.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "주변 크루 검색 요청")
+public class CrewNearbyRequest {
+
+    @Schema(description = "내 위치 위도", example = "36.3504", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Double lat;
+
+    @Schema(description = "내 위치 경도", example = "127.3845", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Double lon;
+
+    @Schema(description = "검색 반경 (km, 최대 50)", example = "3.0")
+    private Double radiusKm = 3.0;
+
+    @Schema(description = "true 면 출발 지점 대신 가장 가까운 경유지까지의 거리로 검색", example = "false")
+    private Boolean includeRoute = false;
+
+    // 기존 검색 필터와 조합
+    @Schema(description = "크루 상태", example = "OPEN", allowableValues = {"OPEN", "CLOSED", "CANCELLED"})
+    private String status = "OPEN";
+
+    @Schema(description = "최대 거리 필터 (km, 코스 길이)", example = "10.0")
+    private Double maxDistance;
+
+    @Schema(description = "시작 시간 이후 필터", example = "2025-01-05T16:00:00")
+    private LocalDateTime startTimeFrom;
+
+    @Schema(description = "최대 결과 수", example = "20")
+    private Integer size = 20;
+}
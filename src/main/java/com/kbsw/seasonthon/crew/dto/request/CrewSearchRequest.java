@@ -28,6 +28,12 @@ public class CrewSearchRequest {
     )
     private List<String> tags;
     
+    @Schema(description = "태그 결합 방식 (OR: 하나라도 포함, AND: 모두 포함, NOT: 하나도 포함하지 않음)", example = "OR", allowableValues = {"OR", "AND", "NOT"})
+    private String tagMode;
+    
+    @Schema(description = "제외할 태그 (여러 개 가능, 하나라도 포함하면 제외)", example = "[\"고강도\"]")
+    private List<String> excludeTags;
+    
     @Schema(description = "크루 상태 검색 (조회용)", example = "OPEN", allowableValues = {"OPEN", "CLOSED", "CANCELLED"})
     private String status;
     
@@ -57,6 +63,17 @@ public class CrewSearchRequest {
     @Schema(description = "정렬 방향", example = "DESC", allowableValues = {"ASC", "DESC"})
     private String sortDirection = "DESC";
     
-    @Schema(description = "정렬 타입", example = "latest", allowableValues = {"popular", "latest", "distance", "pace", "time"})
+    @Schema(description = "정렬 타입 (relevance 는 keyword 검색의 관련도순이며 커서 모드에서는 사용할 수 없습니다)", example = "latest", allowableValues = {"popular", "latest", "distance", "pace", "time", "relevance"})
     private String sortType;
+    
+    // 커서 페이징 (무한 스크롤용)
+    @Schema(description = "커서 페이징용 커서. 값이 있으면 커서 모드로 동작하며 page 는 무시됩니다. 첫 페이지는 빈 값으로 요청하고, 이후에는 응답의 nextCursor 를 그대로 전달합니다.", example = "")
+    private String cursor;
+    
+    // 조회 방식
+    @Schema(description = "false 면 전체 건수(totalElements/totalPages)를 계산하지 않는 slice 모드로 조회합니다. 전체 건수는 짧은 시간 캐시된 근사값입니다.", example = "true")
+    private Boolean withTotal = true;
+    
+    @Schema(description = "true 면 크루 엔티티 전체를 로딩하는 경로로 조회합니다. 기본값(false)은 리스트 컬럼만 읽는 프로젝션 경로입니다.", example = "false")
+    private Boolean fullDetail = false;
 }
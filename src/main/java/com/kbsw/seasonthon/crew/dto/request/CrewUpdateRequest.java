@@ -14,6 +14,7 @@ public class CrewUpdateRequest {
     private String title;
     private String description;
     private Integer maxParticipants;
+    private String routeId;              // 바꾸면 라우트 정보(거리, 안전 점수, 경유지 등)를 다시 조회
     private List<String> waypoints;
     private List<String> tags;
     private String startLocation;        // 시작 위치 (예: "경북대학교 정문")
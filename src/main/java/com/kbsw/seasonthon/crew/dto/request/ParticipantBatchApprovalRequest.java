@@ -0,0 +1,22 @@
+package com.kbsw.seasonthon.crew.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ParticipantBatchApprovalRequest {
+    private List<Decision> decisions;    // 요청 순서대로 정원을 배정
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Decision {
+        private Long userId;
+        private Boolean approve;
+    }
+}
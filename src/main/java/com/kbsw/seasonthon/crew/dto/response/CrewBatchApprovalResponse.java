@@ -0,0 +1,24 @@
+package com.kbsw.seasonthon.crew.dto.response;
+
+import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CrewBatchApprovalResponse {
+    private Integer approvedCount;       // 처리 후 승인 인원
+    private Integer maxParticipants;
+    private List<Result> results;        // 요청 순서와 동일
+
+    @Getter
+    @Builder
+    public static class Result {
+        private Long userId;
+        private ParticipantStatus status; // 처리 후 상태 (신청 내역이 없으면 null)
+        private Boolean changed;
+        private String message;          // 반영되지 않은 사유
+    }
+}
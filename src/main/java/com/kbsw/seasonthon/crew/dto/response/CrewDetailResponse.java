@@ -1,5 +1,6 @@
 package com.kbsw.seasonthon.crew.dto.response;
 
+import com.kbsw.seasonthon.crew.domain.Crew;
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -19,6 +21,7 @@ public class CrewDetailResponse {
     private String hostEmail;
     private Integer maxParticipants;
     private Integer currentParticipants;
+    private Long revision;               // 변경 리비전 (ETag 와 동일한 값)
     private String routeId;
     private String type;
     private Double distanceKm;
@@ -34,6 +37,44 @@ public class CrewDetailResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    public static CrewDetailResponse from(Crew crew) {
+        List<ParticipantInfo> participants = crew.getParticipants().stream()
+            .map(participant -> ParticipantInfo.builder()
+                .userId(participant.getUser().getId())
+                .userName(participant.getUser().getUsername())
+                .userEmail(participant.getUser().getEmail())
+                .status(participant.getStatus().name())
+                .appliedAt(participant.getCreatedAt())
+                .build())
+            .collect(Collectors.toList());
+
+        return CrewDetailResponse.builder()
+            .id(crew.getId())
+            .title(crew.getTitle())
+            .description(crew.getDescription())
+            .status(crew.getStatus())
+            .hostName(crew.getHost().getUsername())
+            .hostEmail(crew.getHost().getEmail())
+            .maxParticipants(crew.getMaxParticipants())
+            .currentParticipants(crew.getApprovedCount())
+            .revision(crew.getRevision())
+            .routeId(crew.getRouteId())
+            .type(crew.getType())
+            .distanceKm(crew.getDistanceKm())
+            .safetyScore(crew.getSafetyScore())
+            .safetyLevel(crew.getSafetyLevel())
+            .durationMin(crew.getDurationMin())
+            .waypoints(crew.getWaypoints())
+            .tags(List.copyOf(crew.getTags()))
+            .startLocation(crew.getStartLocation())
+            .pace(crew.getPace())
+            .startTime(crew.getStartTime())
+            .participants(participants)
+            .createdAt(crew.getCreatedAt())
+            .updatedAt(crew.getModifiedAt())
+            .build();
+    }
+
     @Getter
     @Builder
     public static class ParticipantInfo {
@@ -0,0 +1,79 @@
+package com.kbsw.seasonthon.crew.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.repository.CrewListRow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 내보내기 한 건 (NDJSON 한 줄)
+ * participants 는 참여자 포함 요청일 때만 채운다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CrewExportRecord {
+    private Long id;
+    private String title;
+    private String description;
+    private CrewStatus status;
+    private String hostName;
+    private Integer maxParticipants;
+    private Integer approvedCount;
+    private String routeId;
+    private String type;
+    private Double distanceKm;
+    private Integer safetyScore;
+    private SafetyLevel safetyLevel;
+    private Integer durationMin;
+    private String startLocation;
+    private String pace;
+    private Integer paceSecondsPerKm;
+    private LocalDateTime startTime;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private List<String> tags;
+    private List<Participant> participants;
+
+    @Getter
+    @Builder
+    public static class Participant {
+        private Long userId;
+        private String username;
+        private String nickname;
+        private ParticipantStatus status;
+        private LocalDateTime appliedAt;
+    }
+
+    public static CrewExportRecord from(CrewListRow row, List<String> tags, List<Participant> participants) {
+        return CrewExportRecord.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .status(row.getStatus())
+                .hostName(row.getHostName())
+                .maxParticipants(row.getMaxParticipants())
+                .approvedCount(row.getApprovedCount())
+                .routeId(row.getRouteId())
+                .type(row.getType())
+                .distanceKm(row.getDistanceKm())
+                .safetyScore(row.getSafetyScore())
+                .safetyLevel(row.getSafetyLevel())
+                .durationMin(row.getDurationMin())
+                .startLocation(row.getStartLocation())
+                .pace(row.getPace())
+                .paceSecondsPerKm(row.getPaceSecondsPerKm())
+                .startTime(row.getStartTime())
+                .createdAt(row.getCreatedAt())
+                .modifiedAt(row.getModifiedAt())
+                .tags(tags)
+                .participants(participants)
+                .build();
+    }
+}
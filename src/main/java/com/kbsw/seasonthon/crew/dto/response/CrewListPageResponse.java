@@ -2,7 +2,9 @@ package com.kbsw.seasonthon.crew.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Getter
@@ -10,11 +12,26 @@ import java.util.List;
 public class CrewListPageResponse {
     private List<CrewListResponse> crews;
     private int currentPage;
-    private int totalPages;
-    private long totalElements;
+    private Integer totalPages;          // 커서 모드, withTotal=false 에서는 null (count 쿼리 생략)
+    private Long totalElements;         // 커서 모드, withTotal=false 에서는 null (count 쿼리 생략)
     private int size;
     private boolean hasNext;
     private boolean hasPrevious;
     private boolean isFirst;
     private boolean isLast;
+    private String nextCursor;          // 커서 모드에서 다음 페이지 요청용 (마지막 페이지면 null)
+    private boolean keywordTruncated;   // 키워드 일치 크루가 너무 많아 관련도 상위 후보 안에서만 검색된 경우 true
+
+    // 리스트 ETag: 페이지 메타 + 각 크루의 (id, revision, 승인 인원)
+    public String etag() {
+        StringBuilder sb = new StringBuilder()
+            .append(currentPage).append('|').append(size).append('|')
+            .append(totalElements).append('|').append(hasNext).append('|').append(nextCursor).append('|').append(keywordTruncated);
+        for (CrewListResponse crew : crews) {
+            sb.append('|').append(crew.getId())
+                .append(':').append(crew.getRevision())
+                .append(':').append(crew.getCurrentParticipants());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
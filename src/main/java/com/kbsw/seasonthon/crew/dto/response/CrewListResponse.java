@@ -2,6 +2,8 @@ package com.kbsw.seasonthon.crew.dto.response;
 
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.repository.CrewListRow;
+import com.kbsw.seasonthon.global.util.PolylineCodec;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,6 +20,7 @@ public class CrewListResponse {
     private String hostName;
     private Integer maxParticipants;
     private Integer currentParticipants;
+    private Long revision;               // 변경 리비전 (ETag 계산용)
     private String routeId;
     private String type;
     private Double distanceKm;
@@ -31,4 +34,31 @@ public class CrewListResponse {
     private LocalDateTime startTime;     // 시작 시간 (예: "18:00")
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 프로젝션 행 + 별도로 조회한 태그로 응답 생성
+    public static CrewListResponse from(CrewListRow row, List<String> tags) {
+        return CrewListResponse.builder()
+            .id(row.getId())
+            .title(row.getTitle())
+            .description(row.getDescription())
+            .status(row.getStatus())
+            .hostName(row.getHostName())
+            .maxParticipants(row.getMaxParticipants())
+            .currentParticipants(row.getApprovedCount())
+            .revision(row.getRevision())
+            .routeId(row.getRouteId())
+            .type(row.getType())
+            .distanceKm(row.getDistanceKm())
+            .safetyScore(row.getSafetyScore())
+            .safetyLevel(row.getSafetyLevel())
+            .durationMin(row.getDurationMin())
+            .waypoints(PolylineCodec.toLatLonStrings(PolylineCodec.decode(row.getWaypointsPolyline())))
+            .tags(tags)
+            .startLocation(row.getStartLocation())
+            .pace(row.getPace())
+            .startTime(row.getStartTime())
+            .createdAt(row.getCreatedAt())
+            .updatedAt(row.getModifiedAt())
+            .build();
+    }
 }
@@ -0,0 +1,22 @@
+package com.kbsw.seasonthon.crew.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CrewNearbyResponse {
+    private Double lat;
+    private Double lon;
+    private Double radiusKm;
+    private List<NearbyCrew> crews;      // 가까운 순
+
+    @Getter
+    @Builder
+    public static class NearbyCrew {
+        private Double distanceFromMeKm;
+        private CrewListResponse crew;
+    }
+}
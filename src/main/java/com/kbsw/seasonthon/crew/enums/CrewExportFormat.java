@@ -0,0 +1,18 @@
+package com.kbsw.seasonthon.crew.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CrewExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static CrewExportFormat from(String value) {
+        return value != null ? CrewExportFormat.valueOf(value.toUpperCase()) : NDJSON;
+    }
+}
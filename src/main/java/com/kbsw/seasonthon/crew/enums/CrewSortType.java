@@ -0,0 +1,81 @@
+package com.kbsw.seasonthon.crew.enums;
+
+import com.kbsw.seasonthon.crew.domain.CrewSortKeys;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 크루 리스트 정렬 기준
+ * sortType(popular, latest ...) 또는 sortBy(createdAt, participants ...) 값을 하나의 정렬 키로 정규화한다.
+ * sortType 으로 고른 인기순/최신순은 항상 내림차순이고, 그 밖에는 요청의 sortDirection 을 따른다.
+ * 커서 페이징에서는 property 값과 id 를 함께 커서에 담는다.
+ * RELEVANCE 는 키워드 검색의 BM25 순위를 그대로 쓰는 정렬이라 정렬 컬럼/커서 키가 없다 (페이지 번호 방식만 지원).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CrewSortType {
+    POPULAR("popular", "participants", "approvedCount", Sort.Direction.DESC, CrewSortKeys::getApprovedCount, Integer::valueOf),
+    LATEST("latest", "createdAt", "createdAt", Sort.Direction.DESC, CrewSortKeys::getCreatedAt, LocalDateTime::parse),
+    DISTANCE("distance", "distance", "distanceKm", null, CrewSortKeys::getDistanceKm, Double::valueOf),
+    PACE("pace", "pace", "paceSecondsPerKm", null, CrewSortKeys::getPaceSecondsPerKm, Integer::valueOf),
+    TIME("time", "startTime", "startTime", null, CrewSortKeys::getStartTime, LocalDateTime::parse),
+    RELEVANCE("relevance", "relevance", null, Sort.Direction.DESC, null, null);
+
+    private final String sortType;
+    private final String sortBy;
+    private final String property;
+    private final Sort.Direction fixedDirection;   // sortType 으로 골랐을 때의 고정 방향 (null 이면 요청의 sortDirection)
+    private final Function<CrewSortKeys, Comparable<?>> keyExtractor;
+    private final Function<String, Comparable<?>> keyParser;
+
+    // sortType 이 우선이고, 알 수 없는 sortType 은 sortBy 로 해석한다
+    // 둘 다 없으면 LATEST, 값이 있는데 어디에도 해당하지 않으면 IllegalArgumentException (400)
+    public static CrewSortType resolve(String sortType, String sortBy) {
+        CrewSortType bySortType = findBySortType(sortType);
+        if (bySortType != null) {
+            return bySortType;
+        }
+        if (sortBy != null && !sortBy.isBlank()) {
+            for (CrewSortType type : values()) {
+                if (type.sortBy.equalsIgnoreCase(sortBy.trim())
+                        || (type.property != null && type.property.equalsIgnoreCase(sortBy.trim()))) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("정렬 기준(sortBy)은 createdAt, participants, distance, pace, startTime 중 하나여야 합니다: " + sortBy);
+        }
+        if (sortType != null && !sortType.isBlank()) {
+            throw new IllegalArgumentException("정렬 타입(sortType)은 popular, latest, distance, pace, time, relevance 중 하나여야 합니다: " + sortType);
+        }
+        return LATEST;
+    }
+
+    // 고정 방향은 sortType 으로 고른 경우에만 적용 (sortBy=createdAt 은 요청 방향을 따른다)
+    public Sort.Direction direction(String requestedSortType, String sortDirection) {
+        if (fixedDirection != null && this == findBySortType(requestedSortType)) {
+            return fixedDirection;
+        }
+        return "ASC".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    private static CrewSortType findBySortType(String sortType) {
+        if (sortType == null || sortType.isBlank()) {
+            return null;
+        }
+        for (CrewSortType type : values()) {
+            if (type.sortType.equalsIgnoreCase(sortType.trim())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        // id 를 보조 정렬 키로 두어 동일 값에서도 순서가 고정되게 한다
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+}
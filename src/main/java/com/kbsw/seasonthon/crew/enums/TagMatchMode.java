@@ -0,0 +1,27 @@
+package com.kbsw.seasonthon.crew.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TagMatchMode {
+    OR("태그 중 하나라도 포함"),
+    AND("태그를 모두 포함"),
+    NOT("태그를 하나도 포함하지 않음");
+
+    private final String description;
+
+    // 값이 없으면 OR, 알 수 없는 값이면 IllegalArgumentException (400)
+    public static TagMatchMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return OR;
+        }
+        for (TagMatchMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("태그 검색 방식(tagMode)은 OR, AND, NOT 중 하나여야 합니다: " + value);
+    }
+}
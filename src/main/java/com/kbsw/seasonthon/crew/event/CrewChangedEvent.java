@@ -0,0 +1,46 @@
+package com.kbsw.seasonthon.crew.event;
+
+import com.kbsw.seasonthon.crew.domain.Crew;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 크루 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 후 인메모리 색인 등에 반영되므로, 발행 시점의 값을 복사해 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long crewId;
+    private final Long hostId;
+    private final String title;
+    private final String description;
+    private final String startLocation;
+    private final List<String> tags;
+    private final double[] coordinates;      // 경유지 좌표 [lat0, lon0, lat1, lon1, ...]
+
+    public static CrewChangedEvent created(Crew crew) {
+        return of(Type.CREATED, crew);
+    }
+
+    public static CrewChangedEvent updated(Crew crew) {
+        return of(Type.UPDATED, crew);
+    }
+
+    public static CrewChangedEvent deleted(Long crewId, Long hostId) {
+        return new CrewChangedEvent(Type.DELETED, crewId, hostId, null, null, null, List.of(), new double[0]);
+    }
+
+    private static CrewChangedEvent of(Type type, Crew crew) {
+        return new CrewChangedEvent(type, crew.getId(), crew.getHost().getId(), crew.getTitle(), crew.getDescription(),
+                crew.getStartLocation(), List.copyOf(crew.getTags()), crew.getCoordinates());
+    }
+}
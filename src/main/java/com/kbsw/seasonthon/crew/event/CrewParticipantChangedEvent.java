@@ -0,0 +1,20 @@
+package com.kbsw.seasonthon.crew.event;
+
+import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 참여 신청/승인/거절 등 참여자 상태 변경 이벤트
+ * 크루 자체 필드는 바뀌지 않으므로 검색 색인은 건드리지 않고, 인원 수를 보여주는 캐시만 갱신한다.
+ * 실시간 알림(SSE)에서 신청자와 호스트에게 보내도록 변경 후 상태와 호스트 id 를 함께 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewParticipantChangedEvent {
+
+    private final Long crewId;
+    private final Long userId;
+    private final Long hostId;
+    private final ParticipantStatus status;
+}
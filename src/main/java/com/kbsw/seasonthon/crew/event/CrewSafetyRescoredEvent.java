@@ -0,0 +1,16 @@
+package com.kbsw.seasonthon.crew.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 안전 점수 일괄 재계산 이벤트 (재계산 작업의 bulk UPDATE 로 점수/등급이 바뀐 크루)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewSafetyRescoredEvent {
+
+    private final List<Long> crewIds;
+}
@@ -0,0 +1,18 @@
+package com.kbsw.seasonthon.crew.event;
+
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 상태 변경 이벤트 (스케줄러의 bulk UPDATE 등 엔티티를 거치지 않는 변경)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewStatusChangedEvent {
+
+    private final List<Long> crewIds;
+    private final CrewStatus status;
+}
@@ -0,0 +1,41 @@
+package com.kbsw.seasonthon.crew.job;
+
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 크루 승인 인원 카운터(approvedCount) 재계산 작업
+ * crew.recount-approved-count=true 로 기동하면 시작 시 한 번 실행된다.
+ * run() 에서 자기 자신을 호출하면 @Transactional 프록시를 거치지 않으므로 TransactionTemplate 으로 감싼다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovedCountRecountJob implements ApplicationRunner {
+
+    private final CrewRepository crewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${crew.recount-approved-count:false}")
+    private boolean recountOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (recountOnStartup) {
+            recountAll();
+        }
+    }
+
+    public int recountAll() {
+        Integer updated = transactionTemplate.execute(status -> crewRepository.recountApprovedParticipants());
+        int fixed = updated != null ? updated : 0;
+        log.info("승인 인원 카운터 재계산 완료 - 보정된 크루 수: {}", fixed);
+        return fixed;
+    }
+}
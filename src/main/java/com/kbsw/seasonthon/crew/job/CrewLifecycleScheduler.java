@@ -0,0 +1,96 @@
+package com.kbsw.seasonthon.crew.job;
+
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.event.CrewStatusChangedEvent;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 크루 모집 마감 스케줄러
+ * 시작 시간이 지났거나 승인 인원이 정원에 도달한 OPEN 크루를 CLOSED 로 일괄 변경한다.
+ * 정원 도달로 마감된 크루는 표시해 두고, 승인 취소로 자리가 나면 시작 전까지 CrewService 가 다시 OPEN 으로 되돌린다.
+ * id 를 배치 단위로 고른 뒤 set 기반 UPDATE 로 처리하고, 한 번의 실행에서 처리하는 배치 수는 제한한다.
+ * crew.lifecycle.enabled=false 로 끌 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "crew.lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CrewLifecycleScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final CrewRepository crewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 누적 지표
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong closedByStartTime = new AtomicLong();
+    private final AtomicLong closedByCapacity = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastRunAt = new AtomicReference<>();
+
+    @Scheduled(initialDelayString = "${crew.lifecycle.initial-delay-ms:30000}",
+               fixedDelayString = "${crew.lifecycle.interval-ms:60000}")
+    public void closeExpiredCrews() {
+        LocalDateTime now = LocalDateTime.now();
+        int started = closeInBatches(now, false, () -> crewRepository.findStartedOpenCrewIds(now, PageRequest.of(0, BATCH_SIZE)));
+        int full = closeInBatches(now, true, () -> crewRepository.findFullOpenCrewIds(PageRequest.of(0, BATCH_SIZE)));
+
+        runs.incrementAndGet();
+        closedByStartTime.addAndGet(started);
+        closedByCapacity.addAndGet(full);
+        lastRunAt.set(now);
+        if (started > 0 || full > 0) {
+            log.info("크루 모집 마감 처리 - 시작 시간 경과: {}, 정원 도달: {}", started, full);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "runs", runs.get(),
+                "closedByStartTime", closedByStartTime.get(),
+                "closedByCapacity", closedByCapacity.get(),
+                "lastRunAt", String.valueOf(lastRunAt.get()));
+    }
+
+    // 대상 id 를 배치 단위로 조회해 CLOSED 로 변경 (변경된 행은 다음 조회에서 빠지므로 오프셋 없이 반복)
+    private int closeInBatches(LocalDateTime now, boolean byCapacity, Supplier<List<Long>> targetFinder) {
+        int closed = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<Long> ids = targetFinder.get();
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            // 배치마다 별도 트랜잭션으로 커밋하고, 커밋 후 캐시 무효화 이벤트 발행
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = byCapacity
+                        ? crewRepository.closeFullIfOpen(ids, now)
+                        : crewRepository.updateStatusIfOpen(ids, CrewStatus.CLOSED, now);
+                eventPublisher.publishEvent(new CrewStatusChangedEvent(ids, CrewStatus.CLOSED));
+                return count;
+            });
+            closed += updated != null ? updated : 0;
+            if (ids.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return closed;
+    }
+}
@@ -0,0 +1,94 @@
+package com.kbsw.seasonthon.crew.job;
+
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.event.CrewSafetyRescoredEvent;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import com.kbsw.seasonthon.global.util.PolylineCodec;
+import com.kbsw.seasonthon.route.safety.RouteSafetyScorer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 크루 안전 점수 일괄 재계산 작업 (저장된 경유지 polyline 을 안전 점수 격자로 다시 채점)
+ * 점수가 바뀐 행만 갱신하며 id 순으로 나눠 처리하므로 여러 번 실행해도 안전하다.
+ * route.safety.rescore-on-startup=true 로 기동하면 시작 시 한 번 실행되고, 관리자 API 로도 실행할 수 있다.
+ * 갱신한 행은 revision 을 올려 ETag 를 바꾸고, 배치 커밋 후 변경 이벤트로 목록/검색 캐시를 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrewSafetyRescoreJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CrewRepository crewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RouteSafetyScorer safetyScorer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${route.safety.rescore-on-startup:false}")
+    private boolean rescoreOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rescoreOnStartup && safetyScorer.isAvailable()) {
+            rescoreAll();
+        }
+    }
+
+    // [검사한 크루 수, 갱신한 크루 수]
+    public int[] rescoreAll() {
+        if (!safetyScorer.isAvailable()) {
+            throw new IllegalStateException("안전 점수 격자가 설정되지 않았습니다.");
+        }
+        long lastId = 0L;
+        int scanned = 0;
+        int updated = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Object[]> rows = crewRepository.findSafetyRescoreTargets(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // 배치마다 별도 트랜잭션으로 커밋하고, 커밋 후 캐시 무효화 이벤트 발행
+            Integer batchUpdated = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> changedIds = new ArrayList<>();
+                for (Object[] row : rows) {
+                    Integer score = safetyScorer.score(PolylineCodec.decode((String) row[1]));
+                    if (score == null || Objects.equals(score, row[2])) {
+                        continue;
+                    }
+                    Long crewId = (Long) row[0];
+                    if (crewRepository.updateSafety(crewId, score, SafetyLevel.fromScore(score), now) > 0) {
+                        changedIds.add(crewId);
+                    }
+                }
+                if (!changedIds.isEmpty()) {
+                    eventPublisher.publishEvent(new CrewSafetyRescoredEvent(changedIds));
+                }
+                return changedIds.size();
+            });
+            scanned += rows.size();
+            updated += batchUpdated != null ? batchUpdated : 0;
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        log.info("크루 안전 점수 재계산 완료 - 검사: {}, 갱신: {}", scanned, updated);
+        return new int[]{scanned, updated};
+    }
+}
@@ -0,0 +1,76 @@
+package com.kbsw.seasonthon.crew.job;
+
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import com.kbsw.seasonthon.crew.util.PaceParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 크루의 paceSecondsPerKm 백필 작업
+ * pace 는 있지만 정규화 값이 비어 있는 행만 id 순으로 나눠 처리하므로 여러 번 실행해도 안전하다.
+ * crew.backfill-pace=false 로 끌 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaceBackfillJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CrewRepository crewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${crew.backfill-pace:true}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    public void backfill() {
+        long lastId = 0L;
+        int updated = 0;
+        int unparsable = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Object[]> rows = crewRepository.findPaceBackfillTargets(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            // 배치마다 별도 트랜잭션으로 커밋
+            int[] counts = transactionTemplate.execute(status -> {
+                int batchUpdated = 0;
+                int batchUnparsable = 0;
+                for (Object[] row : rows) {
+                    Integer seconds = PaceParser.toSecondsPerKm((String) row[1]);
+                    if (seconds == null) {
+                        batchUnparsable++;
+                        continue;
+                    }
+                    batchUpdated += crewRepository.updatePaceSeconds((Long) row[0], seconds);
+                }
+                return new int[]{batchUpdated, batchUnparsable};
+            });
+            updated += counts[0];
+            unparsable += counts[1];
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        if (updated > 0 || unparsable > 0) {
+            log.info("페이스 백필 완료 - 갱신: {}, 해석 불가: {}", updated, unparsable);
+        }
+    }
+}
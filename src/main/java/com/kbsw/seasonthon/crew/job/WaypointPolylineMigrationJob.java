@@ -0,0 +1,160 @@
+package com.kbsw.seasonthon.crew.job;
+
+import com.kbsw.seasonthon.global.util.PolylineCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경유지 컬렉션 테이블(crew_waypoints, favorite_waypoints) -> waypoints_polyline 컬럼 이관 작업
+ * polyline 이 null 인 행만 id 순으로 나눠 처리하므로 여러 번 실행해도 안전하다
+ * (경유지를 비운 행은 null 이 아니라 빈 문자열이라 다시 복사되지 않는다).
+ *
+ * 두 단계 모두 기본은 꺼져 있다.
+ * - crew.migrate-waypoints=true: 복사만 한다. 기존 테이블은 그대로 두므로 롤링 배포 중인 이전 버전 노드도 계속 읽을 수 있다.
+ * - crew.drop-legacy-waypoints=true: 모든 노드가 새 버전으로 바뀐 뒤 켠다. 기존 경유지가 있는데 polyline 이 비어 있는 행이
+ *   하나도 없을 때만 DROP TABLE IF EXISTS 로 삭제한다 (여러 인스턴스가 동시에 실행해도 실패하지 않는다).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaypointPolylineMigrationJob implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    @Value("${crew.migrate-waypoints:false}")
+    private boolean migrateOnStartup;
+
+    @Value("${crew.drop-legacy-waypoints:false}")
+    private boolean dropLegacyOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrateOnStartup) {
+            migrate("crews", "crew_waypoints", "crew_id");
+            migrate("favorites", "favorite_waypoints", "favorite_id");
+        }
+        if (dropLegacyOnStartup) {
+            dropLegacy("crews", "crew_waypoints", "crew_id");
+            dropLegacy("favorites", "favorite_waypoints", "favorite_id");
+        }
+    }
+
+    public void migrate(String ownerTable, String legacyTable, String ownerColumn) {
+        if (!tableExists(legacyTable)) {
+            return;
+        }
+
+        long lastId = 0L;
+        int migrated = 0;
+
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM " + ownerTable + " WHERE waypoints_polyline IS NULL AND id > ? ORDER BY id LIMIT " + BATCH_SIZE,
+                Long.class, lastId);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            // 컬렉션 테이블에는 순서 컬럼도 기본 키도 없어 ORDER BY 로 순서를 보장할 수 없다
+            // DB 가 돌려주는 순서(MySQL InnoDB 는 보통 삽입 순서)를 그대로 쓰므로, 순서가 중요한 데이터는 이관 후 확인이 필요하다
+            Map<Long, List<String>> pointsById = new LinkedHashMap<>();
+            namedParameterJdbcTemplate.query(
+                "SELECT " + ownerColumn + ", waypoint FROM " + legacyTable + " WHERE " + ownerColumn + " IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                rs -> {
+                    pointsById.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+                });
+
+            List<Object[]> updates = new ArrayList<>(pointsById.size());
+            pointsById.forEach((id, points) -> {
+                List<String> validPoints = validPoints(ownerTable, id, points);
+                updates.add(new Object[]{PolylineCodec.encodeLatLon(validPoints), id});
+            });
+
+            // 배치마다 별도 트랜잭션으로 커밋
+            if (!updates.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE " + ownerTable + " SET waypoints_polyline = ? WHERE id = ? AND waypoints_polyline IS NULL",
+                    updates));
+                migrated += updates.size();
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        log.info("경유지 polyline 이관 완료 - {}: {}건", ownerTable, migrated);
+    }
+
+    // 이관이 확인된 경우에만 기존 테이블 삭제 (아직 옮기지 않은 행이 있으면 남겨 둔다)
+    public void dropLegacy(String ownerTable, String legacyTable, String ownerColumn) {
+        if (!tableExists(legacyTable)) {
+            return;
+        }
+        Long pending = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + ownerTable + " o WHERE o.waypoints_polyline IS NULL AND EXISTS " +
+            "(SELECT 1 FROM " + legacyTable + " l WHERE l." + ownerColumn + " = o.id)",
+            Long.class);
+        if (pending != null && pending > 0) {
+            log.warn("경유지 polyline 이관이 끝나지 않아 {} 를 남겨 둡니다 - 미이관 {}: {}건", legacyTable, ownerTable, pending);
+            return;
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + legacyTable);
+        log.info("기존 경유지 테이블 삭제 - {}", legacyTable);
+    }
+
+    // 기존 데이터의 잘못된 좌표는 건너뛰고 경고만 남긴다
+    private List<String> validPoints(String ownerTable, Long id, List<String> points) {
+        List<String> valid = new ArrayList<>(points.size());
+        for (String point : points) {
+            try {
+                PolylineCodec.parseLatLon(Collections.singletonList(point));
+                valid.add(point);
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 경유지 좌표 제외 - {} id={}: {}", ownerTable, id, point);
+            }
+        }
+        return valid;
+    }
+
+    private boolean tableExists(String table) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, (DatabaseMetaData metaData) -> {
+                String catalog = metaData.getConnection().getCatalog();
+                // DB 마다 식별자 대소문자 저장 방식이 달라 두 가지 모두 확인
+                for (String name : new String[]{table, table.toUpperCase()}) {
+                    try (ResultSet rs = metaData.getTables(catalog, null, name, new String[]{"TABLE"})) {
+                        if (rs.next()) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            });
+        } catch (Exception e) {
+            log.warn("테이블 확인 실패 - {}: {}", table, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import com.kbsw.seasonthon.crew.domain.CrewSortKeys;
+import com.kbsw.seasonthon.crew.enums.CrewSortType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 크루 리스트 커서 (마지막 행의 정렬 키 + id)
+ * 클라이언트에는 "정렬타입|id|정렬값" 을 base64url 로 인코딩한 불투명 문자열로 전달한다.
+ * 정렬값이 null 이면 마지막 구간을 생략한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final CrewSortType sortType;
+    private final Long id;
+    private final Comparable<?> sortValue;
+
+    public static CrewCursor of(CrewSortType sortType, CrewSortKeys last) {
+        return new CrewCursor(sortType, last.getId(), sortType.getKeyExtractor().apply(last));
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + id;
+        if (sortValue != null) {
+            raw += DELIMITER + sortValue;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CrewCursor decode(String cursor, CrewSortType expectedSortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            CrewSortType sortType = CrewSortType.valueOf(parts[0]);
+            if (sortType != expectedSortType) {
+                throw new IllegalArgumentException("sort type mismatch");
+            }
+            Long id = Long.valueOf(parts[1]);
+            Comparable<?> sortValue = parts.length == 3 ? sortType.getKeyParser().apply(parts[2]) : null;
+            return new CrewCursor(sortType, id, sortValue);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
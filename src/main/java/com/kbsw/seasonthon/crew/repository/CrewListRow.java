@@ -0,0 +1,40 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import com.kbsw.seasonthon.crew.domain.CrewSortKeys;
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크루 리스트 한 행 (Criteria 생성자 프로젝션)
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 리스트 응답에 필요한 컬럼과 호스트 이름만 한 번에 읽는다.
+ * 태그는 페이지의 id 로 따로 한 번에 조회한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewListRow implements CrewSortKeys {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final CrewStatus status;
+    private final String hostName;
+    private final Integer maxParticipants;
+    private final Integer approvedCount;
+    private final Long revision;
+    private final String routeId;
+    private final String type;
+    private final Double distanceKm;
+    private final Integer safetyScore;
+    private final SafetyLevel safetyLevel;
+    private final Integer durationMin;
+    private final String waypointsPolyline;
+    private final String startLocation;
+    private final String pace;
+    private final Integer paceSecondsPerKm;
+    private final LocalDateTime startTime;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+}
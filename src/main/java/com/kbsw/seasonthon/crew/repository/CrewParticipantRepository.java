@@ -5,8 +5,13 @@ import com.kbsw.seasonthon.crew.domain.CrewParticipant;
 import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
 import com.kbsw.seasonthon.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +25,34 @@ public interface CrewParticipantRepository extends JpaRepository<CrewParticipant
     List<CrewParticipant> findByCrew(Crew crew);
     
     boolean existsByCrewAndUser(Crew crew, User user);
+    
+    // 상태 조건부 변경: 현재 상태가 from 중 하나일 때만 바꾸므로 동시 요청 중 한 건만 1 을 반환
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrewParticipant p SET p.status = :to, p.modifiedAt = :now WHERE p.id = :id AND p.status IN :from")
+    int changeStatus(@Param("id") Long id,
+                     @Param("from") Collection<ParticipantStatus> from,
+                     @Param("to") ParticipantStatus to,
+                     @Param("now") LocalDateTime now);
+
+    // 일괄 처리용 현재 상태 조회: [participantId, userId, status]
+    @Query("SELECT p.id, p.user.id, p.status FROM CrewParticipant p WHERE p.crew.id = :crewId AND p.user.id IN :userIds")
+    List<Object[]> findStatusesByCrewIdAndUserIds(@Param("crewId") Long crewId,
+                                                  @Param("userIds") Collection<Long> userIds);
+
+    // 여러 참여자의 상태를 한 번에 변경 (현재 상태가 from 중 하나인 행만)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CrewParticipant p SET p.status = :to, p.modifiedAt = :now WHERE p.id IN :ids AND p.status IN :from")
+    int changeStatusAll(@Param("ids") Collection<Long> ids,
+                        @Param("from") Collection<ParticipantStatus> from,
+                        @Param("to") ParticipantStatus to,
+                        @Param("now") LocalDateTime now);
+
+    // 내보내기용 참여자 목록 [crewId, userId, username, nickname, status, createdAt]
+    @Query("SELECT p.crew.id, u.id, u.username, u.nickname, p.status, p.createdAt " +
+           "FROM CrewParticipant p JOIN p.user u WHERE p.crew.id IN :crewIds ORDER BY p.id")
+    List<Object[]> findExportRowsByCrewIds(@Param("crewIds") Collection<Long> crewIds);
+
+    // 크루별 참여자 id [crewId, userId] (상태 변경 알림 대상)
+    @Query("SELECT p.crew.id, p.user.id FROM CrewParticipant p WHERE p.crew.id IN :crewIds")
+    List<Object[]> findUserIdsByCrewIds(@Param("crewIds") Collection<Long> crewIds);
 }
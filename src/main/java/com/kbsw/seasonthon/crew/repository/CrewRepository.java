@@ -3,55 +3,176 @@ package com.kbsw.seasonthon.crew.repository;
 import com.kbsw.seasonthon.crew.domain.Crew;
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.search.CrewTextDocument;
 import com.kbsw.seasonthon.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CrewRepository extends JpaRepository<Crew, Long> {
+public interface CrewRepository extends JpaRepository<Crew, Long>, CrewRepositoryCustom {
     
-    @Query("SELECT c FROM Crew c WHERE c.host = :user OR c.id IN " +
-           "(SELECT cp.crew.id FROM CrewParticipant cp WHERE cp.user = :user AND cp.status = 'APPROVED')")
-    List<Crew> findCrewsByUser(@Param("user") User user);
+    // 내 크루 id (호스트 + 승인된 참여), id 내림차순
+    // OR + IN 서브쿼리 대신 UNION 으로 나눠 각 갈래가 crews(host_id), crew_participants(user_id, status, crew_id) 인덱스만 읽게 한다
+    @Query(value = "SELECT c.id FROM crews c WHERE c.host_id = :userId " +
+                   "UNION " +
+                   "SELECT p.crew_id FROM crew_participants p WHERE p.user_id = :userId AND p.status = 'APPROVED' " +
+                   "ORDER BY 1 DESC", nativeQuery = true)
+    List<Long> findMyCrewIds(@Param("userId") Long userId);
     
     @Query("SELECT COUNT(cp) FROM CrewParticipant cp WHERE cp.crew = :crew AND cp.status = 'APPROVED'")
     Long countApprovedParticipants(@Param("crew") Crew crew);
     
     Optional<Crew> findByIdAndHost(Long id, User host);
     
-    // 크루 검색 메서드들 (조회용 + 실제 필터링)
-    @Query("SELECT DISTINCT c FROM Crew c " +
-           "LEFT JOIN c.tags t " +
-           "WHERE (:keyword IS NULL OR c.title LIKE %:keyword% OR c.description LIKE %:keyword%) " +
-           "AND (:startLocation IS NULL OR c.startLocation LIKE %:startLocation%) " +
-           "AND (:status IS NULL OR c.status = :status) " +
-           "AND (:safetyLevel IS NULL OR c.safetyLevel = :safetyLevel) " +
-           "AND (:tags IS NULL OR t IN :tags) " +
-           "AND (:maxDistance IS NULL OR c.distanceKm <= :maxDistance) " +
-           "AND (:minPace IS NULL OR c.pace <= :minPace) " +
-           "AND (:startTimeFrom IS NULL OR c.startTime >= :startTimeFrom)")
-    Page<Crew> searchCrews(@Param("keyword") String keyword,
-                          @Param("startLocation") String startLocation,
-                          @Param("status") CrewStatus status,
-                          @Param("safetyLevel") SafetyLevel safetyLevel,
-                          @Param("tags") List<String> tags,
-                          @Param("maxDistance") Double maxDistance,
-                          @Param("minPace") String minPace,
-                          @Param("startTimeFrom") LocalDateTime startTimeFrom,
-                          Pageable pageable);
-    
-    // 인기 크루 조회 (참여자 수 기준)
-    @Query("SELECT c FROM Crew c WHERE c.status = 'OPEN' ORDER BY " +
-           "(SELECT COUNT(cp) FROM CrewParticipant cp WHERE cp.crew = c AND cp.status = 'APPROVED') DESC")
+    // 인기 크루 조회 (참여자 수 기준, 비정규화된 approvedCount 사용)
+    @Query("SELECT c FROM Crew c WHERE c.status = 'OPEN' ORDER BY c.approvedCount DESC, c.id DESC")
     Page<Crew> findPopularCrews(Pageable pageable);
+
+    // approvedCount 재계산 (실제 승인 인원과 어긋난 크루만 갱신)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Crew c SET c.approvedCount = " +
+           "CAST((SELECT COUNT(cp) FROM CrewParticipant cp WHERE cp.crew = c AND cp.status = 'APPROVED') AS Integer) " +
+           "WHERE c.approvedCount <> " +
+           "CAST((SELECT COUNT(cp) FROM CrewParticipant cp WHERE cp.crew = c AND cp.status = 'APPROVED') AS Integer)")
+    int recountApprovedParticipants();
+    
+    // 텍스트 색인 재구성용 (엔티티 로딩 없이 색인 필드만 조회)
+    @Query("SELECT new com.kbsw.seasonthon.crew.search.CrewTextDocument(c.id, c.title, c.description, c.startLocation) " +
+           "FROM Crew c")
+    List<CrewTextDocument> findAllTextDocuments();
+    
+    // 태그 색인 재구성용 [crewId, tag]
+    @Query("SELECT c.id, t FROM Crew c JOIN c.tags t")
+    List<Object[]> findAllCrewTags();
+    
+    // 조건부 GET 용 버전 (참여자 등은 로딩하지 않음)
+    @Query("SELECT new com.kbsw.seasonthon.crew.repository.CrewVersion(c.id, c.revision, c.modifiedAt) FROM Crew c WHERE c.id = :crewId")
+    Optional<CrewVersion> findVersionById(@Param("crewId") Long crewId);
+
+    // 정원 자리 확보: 승인 인원이 정원 미만일 때만 1 증가 (0 이면 정원 초과)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.approvedCount = c.approvedCount + 1, c.revision = c.revision + 1, c.modifiedAt = :now " +
+           "WHERE c.id = :crewId AND c.approvedCount < c.maxParticipants")
+    int reserveSlot(@Param("crewId") Long crewId, @Param("now") LocalDateTime now);
+
+    // 크루 행을 쓰기 잠금으로 조회 (같은 크루의 승인 처리를 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Crew c WHERE c.id = :id")
+    Optional<Crew> findByIdForUpdate(@Param("id") Long id);
+
+    // 일괄 승인/거절 결과를 한 번에 반영 (정원 범위를 벗어나면 0)
+    // 정원 상한은 인원이 늘 때만 검사한다 (정원 초과 상태의 크루에서도 거절로 인원을 줄일 수 있도록)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.approvedCount = c.approvedCount + :delta, c.revision = c.revision + 1, c.modifiedAt = :now " +
+           "WHERE c.id = :crewId AND c.approvedCount + :delta >= 0 " +
+           "AND (:delta <= 0 OR c.approvedCount + :delta <= c.maxParticipants)")
+    int adjustApprovedCount(@Param("crewId") Long crewId, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 승인 취소 시 자리 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.approvedCount = c.approvedCount - 1, c.revision = c.revision + 1, c.modifiedAt = :now " +
+           "WHERE c.id = :crewId AND c.approvedCount > 0")
+    int releaseSlot(@Param("crewId") Long crewId, @Param("now") LocalDateTime now);
+
+    // 정원 도달로 마감된 크루에 자리가 나면 다시 모집중으로 (시작 시간 전일 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.status = com.kbsw.seasonthon.crew.enums.CrewStatus.OPEN, c.closedByCapacity = false, " +
+           "c.revision = c.revision + 1, c.modifiedAt = :now " +
+           "WHERE c.id = :crewId AND c.status = 'CLOSED' AND c.closedByCapacity = true " +
+           "AND c.approvedCount < c.maxParticipants AND (c.startTime IS NULL OR c.startTime > :now)")
+    int reopenIfSlotFreed(@Param("crewId") Long crewId, @Param("now") LocalDateTime now);
+
+    // 리비전 원자적 증가 (대기 중인 변경을 먼저 flush 한 뒤 실행)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c SET c.revision = c.revision + 1, c.modifiedAt = :now WHERE c.id = :crewId")
+    int increaseRevision(@Param("crewId") Long crewId, @Param("now") LocalDateTime now);
+
+    // 모집 마감 대상: 시작 시간이 지난 OPEN 크루
+    @Query("SELECT c.id FROM Crew c WHERE c.status = 'OPEN' " +
+           "AND c.startTime < :now ORDER BY c.id")
+    List<Long> findStartedOpenCrewIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 모집 마감 대상: 승인 인원이 정원에 도달한 OPEN 크루
+    @Query("SELECT c.id FROM Crew c WHERE c.status = 'OPEN' " +
+           "AND c.approvedCount >= c.maxParticipants ORDER BY c.id")
+    List<Long> findFullOpenCrewIds(Pageable pageable);
+
+    // 상태 일괄 변경 (여전히 OPEN 인 행만, 리비전도 함께 증가)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Crew c SET c.status = :status, c.revision = c.revision + 1, c.modifiedAt = :now " +
+           "WHERE c.id IN :crewIds AND c.status = 'OPEN'")
+    int updateStatusIfOpen(@Param("crewIds") Collection<Long> crewIds,
+                           @Param("status") CrewStatus status,
+                           @Param("now") LocalDateTime now);
+
+    // 정원 도달 마감 (여전히 OPEN 이고 가득 찬 행만, 자리가 나면 되돌릴 수 있도록 표시)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Crew c SET c.status = com.kbsw.seasonthon.crew.enums.CrewStatus.CLOSED, c.closedByCapacity = true, " +
+           "c.revision = c.revision + 1, c.modifiedAt = :now " +
+           "WHERE c.id IN :crewIds AND c.status = 'OPEN' AND c.approvedCount >= c.maxParticipants")
+    int closeFullIfOpen(@Param("crewIds") Collection<Long> crewIds, @Param("now") LocalDateTime now);
+
+    // 크루별 호스트 id [crewId, hostId]
+    @Query("SELECT c.id, c.host.id FROM Crew c WHERE c.id IN :crewIds")
+    List<Object[]> findHostIdsByCrewIds(@Param("crewIds") Collection<Long> crewIds);
+
+    // 리스트 페이지의 태그를 한 번에 조회 [crewId, tag]
+    @Query("SELECT c.id, t FROM Crew c JOIN c.tags t WHERE c.id IN :crewIds")
+    List<Object[]> findTagsByCrewIds(@Param("crewIds") Collection<Long> crewIds);
+
+    // 관리자 내보내기용 전진 전용 스트림 (id 순, 드라이버가 fetch size 만큼씩 읽음)
+    // MySQL 은 URL 의 useCursorFetch=true 가 있어야 fetch size 를 지키고 전체를 메모리에 올리지 않는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.kbsw.seasonthon.crew.repository.CrewListRow(" +
+           "c.id, c.title, c.description, c.status, h.username, c.maxParticipants, c.approvedCount, c.revision, " +
+           "c.routeId, c.type, c.distanceKm, c.safetyScore, c.safetyLevel, c.durationMin, c.waypointsPolyline, " +
+           "c.startLocation, c.pace, c.paceSecondsPerKm, c.startTime, c.createdAt, c.modifiedAt) " +
+           "FROM Crew c LEFT JOIN c.host h WHERE (:status IS NULL OR c.status = :status) ORDER BY c.id")
+    Stream<CrewListRow> streamExportRows(@Param("status") CrewStatus status);
+
+    @Query("SELECT c.id, c.waypointsPolyline FROM Crew c WHERE c.waypointsPolyline IS NOT NULL")
+    List<Object[]> findAllCrewWaypointPolylines();
+    
+    @Query("SELECT c.id FROM Crew c")
+    List<Long> findAllIds();
+    
+    // 페이스 정규화 값 백필 대상 [id, pace] (id 순 keyset)
+    @Query("SELECT c.id, c.pace FROM Crew c " +
+           "WHERE c.pace IS NOT NULL AND c.paceSecondsPerKm IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<Object[]> findPaceBackfillTargets(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE Crew c SET c.paceSecondsPerKm = :seconds WHERE c.id = :id")
+    int updatePaceSeconds(@Param("id") Long id, @Param("seconds") Integer seconds);
+    
+    // 안전 점수 재계산 대상 [id, waypointsPolyline, safetyScore] (id 순 keyset)
+    @Query("SELECT c.id, c.waypointsPolyline, c.safetyScore FROM Crew c " +
+           "WHERE c.waypointsPolyline IS NOT NULL AND c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSafetyRescoreTargets(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE Crew c SET c.safetyScore = :score, c.safetyLevel = :level, " +
+           "c.revision = c.revision + 1, c.modifiedAt = :now WHERE c.id = :id")
+    int updateSafety(@Param("id") Long id,
+                     @Param("score") Integer score,
+                     @Param("level") SafetyLevel level,
+                     @Param("now") LocalDateTime now);
     
     // 최신 크루 조회
     Page<Crew> findByStatusOrderByCreatedAtDesc(CrewStatus status, Pageable pageable);
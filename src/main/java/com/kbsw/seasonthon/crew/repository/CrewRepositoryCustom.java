@@ -0,0 +1,35 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import com.kbsw.seasonthon.crew.domain.Crew;
+import com.kbsw.seasonthon.crew.enums.CrewSortType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CrewRepositoryCustom {
+
+    // 상세 조회용: 호스트, 참여자, 참여자 사용자, 태그까지 2회 쿼리로 로딩
+    Optional<Crew> findDetailById(Long id);
+
+    // 동적 조건 크루 검색: 값이 있는 조건만 where 절에 포함
+    // size + 1 건으로 다음 페이지 여부만 계산하며, 전체 건수가 필요하면 countCrews 를 따로 호출한다
+    Slice<Crew> searchCrews(CrewSearchCondition condition, Pageable pageable);
+
+    // 리스트용 프로젝션 검색 (엔티티 로딩 없이 리스트 컬럼 + 호스트 이름만 한 번의 쿼리로 조회)
+    Slice<CrewListRow> searchCrewRows(CrewSearchCondition condition, Pageable pageable);
+
+    long countCrews(CrewSearchCondition condition);
+
+    // 조건에 맞는 리스트 행 전체 (후보 id 로 범위가 이미 좁혀진 경우용)
+    List<CrewListRow> searchCrewRows(CrewSearchCondition condition);
+
+    // 커서(keyset) 기반 크루 검색: count 쿼리 없이 커서 이후 limit 건만 조회
+    List<Crew> searchCrewsAfter(CrewSearchCondition condition, CrewSortType sortType,
+                                Sort.Direction direction, CrewCursor cursor, int limit);
+
+    List<CrewListRow> searchCrewRowsAfter(CrewSearchCondition condition, CrewSortType sortType,
+                                          Sort.Direction direction, CrewCursor cursor, int limit);
+}
@@ -0,0 +1,255 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import com.kbsw.seasonthon.crew.domain.Crew;
+import com.kbsw.seasonthon.crew.enums.CrewSortType;
+import com.kbsw.seasonthon.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class CrewRepositoryCustomImpl implements CrewRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<Crew> findDetailById(Long id) {
+        // 1) 크루 + 호스트 + 참여자 + 참여자 사용자
+        List<Crew> result = em.createQuery(
+                        "SELECT DISTINCT c FROM Crew c " +
+                        "JOIN FETCH c.host " +
+                        "LEFT JOIN FETCH c.participants p " +
+                        "LEFT JOIN FETCH p.user " +
+                        "WHERE c.id = :id", Crew.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 2) 태그 (bag 컬렉션 두 개는 한 쿼리로 fetch join 할 수 없어 같은 영속성 컨텍스트에서 따로 채움)
+        em.createQuery("SELECT DISTINCT c FROM Crew c LEFT JOIN FETCH c.tags WHERE c.id = :id", Crew.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        return Optional.of(result.get(0));
+    }
+
+    @Override
+    public Slice<Crew> searchCrews(CrewSearchCondition condition, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Crew> query = cb.createQuery(Crew.class);
+        Root<Crew> root = query.from(Crew.class);
+        query.select(root);
+
+        return findSlice(cb, query, root, condition, pageable);
+    }
+
+    @Override
+    public Slice<CrewListRow> searchCrewRows(CrewSearchCondition condition, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<CrewListRow> query = cb.createQuery(CrewListRow.class);
+        Root<Crew> root = query.from(Crew.class);
+        query.select(listRow(cb, root));
+
+        return findSlice(cb, query, root, condition, pageable);
+    }
+
+    @Override
+    public List<CrewListRow> searchCrewRows(CrewSearchCondition condition) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<CrewListRow> query = cb.createQuery(CrewListRow.class);
+        Root<Crew> root = query.from(Crew.class);
+
+        query.select(listRow(cb, root))
+                .where(buildPredicates(cb, query, root, condition).toArray(new Predicate[0]));
+
+        return em.createQuery(query).getResultList();
+    }
+
+    // size + 1 건을 읽어 다음 페이지 여부만 판단 (count 쿼리 없음)
+    private <T> Slice<T> findSlice(CriteriaBuilder cb, CriteriaQuery<T> query, Root<Crew> root,
+                                   CrewSearchCondition condition, Pageable pageable) {
+        query.where(buildPredicates(cb, query, root, condition).toArray(new Predicate[0]))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        int size = pageable.getPageSize();
+        List<T> content = em.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+    }
+
+    @Override
+    public long countCrews(CrewSearchCondition condition) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Crew> root = query.from(Crew.class);
+
+        query.select(cb.count(root))
+                .where(buildPredicates(cb, query, root, condition).toArray(new Predicate[0]));
+
+        return em.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<Crew> searchCrewsAfter(CrewSearchCondition condition, CrewSortType sortType,
+                                       Sort.Direction direction, CrewCursor cursor, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Crew> query = cb.createQuery(Crew.class);
+        Root<Crew> root = query.from(Crew.class);
+        query.select(root);
+
+        return findAfter(cb, query, root, condition, sortType, direction, cursor, limit);
+    }
+
+    @Override
+    public List<CrewListRow> searchCrewRowsAfter(CrewSearchCondition condition, CrewSortType sortType,
+                                                 Sort.Direction direction, CrewCursor cursor, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<CrewListRow> query = cb.createQuery(CrewListRow.class);
+        Root<Crew> root = query.from(Crew.class);
+        query.select(listRow(cb, root));
+
+        return findAfter(cb, query, root, condition, sortType, direction, cursor, limit);
+    }
+
+    private <T> List<T> findAfter(CriteriaBuilder cb, CriteriaQuery<T> query, Root<Crew> root,
+                                  CrewSearchCondition condition, CrewSortType sortType,
+                                  Sort.Direction direction, CrewCursor cursor, int limit) {
+        List<Predicate> predicates = buildPredicates(cb, query, root, condition);
+        boolean asc = direction.isAscending();
+        if (cursor != null) {
+            predicates.add(afterCursor(cb, root, sortType, asc, cursor));
+        }
+
+        Path<?> key = root.get(sortType.getProperty());
+        Path<Long> id = root.get("id");
+        query.where(predicates.toArray(new Predicate[0]))
+                .orderBy(asc ? cb.asc(key) : cb.desc(key), asc ? cb.asc(id) : cb.desc(id));
+
+        return em.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 리스트 응답에 필요한 컬럼 + 호스트 이름 (CrewListRow 생성자 순서와 동일)
+    private CompoundSelection<CrewListRow> listRow(CriteriaBuilder cb, Root<Crew> root) {
+        Join<Crew, User> host = root.join("host");
+        return cb.construct(CrewListRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                host.get("username"),
+                root.get("maxParticipants"),
+                root.get("approvedCount"),
+                root.get("revision"),
+                root.get("routeId"),
+                root.get("type"),
+                root.get("distanceKm"),
+                root.get("safetyScore"),
+                root.get("safetyLevel"),
+                root.get("durationMin"),
+                root.get("waypointsPolyline"),
+                root.get("startLocation"),
+                root.get("pace"),
+                root.get("paceSecondsPerKm"),
+                root.get("startTime"),
+                root.get("createdAt"),
+                root.get("modifiedAt"));
+    }
+
+    // 값이 있는 조건만 where 절에 추가
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, CriteriaQuery<?> query,
+                                            Root<Crew> root, CrewSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (condition.getCrewIds() != null) {
+            predicates.add(root.get("id").in(condition.getCrewIds()));
+        }
+        if (condition.getAnyTags() != null && !condition.getAnyTags().isEmpty()) {
+            predicates.add(cb.gt(tagMatchCount(cb, query, root, condition.getAnyTags()), 0L));
+        }
+        if (condition.getAllTags() != null && !condition.getAllTags().isEmpty()) {
+            predicates.add(cb.equal(tagMatchCount(cb, query, root, condition.getAllTags()),
+                    (long) condition.getAllTags().size()));
+        }
+        if (condition.getNoneTags() != null && !condition.getNoneTags().isEmpty()) {
+            predicates.add(cb.equal(tagMatchCount(cb, query, root, condition.getNoneTags()), 0L));
+        }
+        if (condition.getStartLocation() != null) {
+            predicates.add(cb.like(root.get("startLocation"), "%" + condition.getStartLocation() + "%"));
+        }
+        if (condition.getStatus() != null) {
+            predicates.add(cb.equal(root.get("status"), condition.getStatus()));
+        }
+        if (condition.getSafetyLevel() != null) {
+            predicates.add(cb.equal(root.get("safetyLevel"), condition.getSafetyLevel()));
+        }
+        if (condition.getMaxDistance() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("distanceKm"), condition.getMaxDistance()));
+        }
+        if (condition.getMaxPaceSeconds() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("paceSecondsPerKm"), condition.getMaxPaceSeconds()));
+        }
+        if (condition.getStartTimeFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("startTime"), condition.getStartTimeFrom()));
+        }
+        return predicates;
+    }
+
+    // 크루가 가진 태그 중 주어진 태그와 일치하는 서로 다른 태그 수 (crew_tags 상관 서브쿼리)
+    // 태그 색인과 같이 앞뒤 공백 제거 + 소문자로 비교한다 (tags 는 이미 CrewTagIndex.normalize 된 값)
+    private Subquery<Long> tagMatchCount(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Crew> root,
+                                         Collection<String> tags) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Crew> crew = subquery.from(Crew.class);
+        Join<Crew, String> tag = crew.join("tags");
+        Expression<String> normalized = cb.lower(cb.trim(tag));
+        return subquery.select(cb.countDistinct(normalized))
+                .where(cb.equal(crew.get("id"), root.get("id")), normalized.in(tags));
+    }
+
+    // (정렬키, id) 가 커서보다 뒤에 있는 행
+    // NULL 정렬키는 가장 작은 값으로 취급한다 (MySQL/H2 기본 정렬: ASC 맨 앞, DESC 맨 뒤)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate afterCursor(CriteriaBuilder cb, Root<Crew> root, CrewSortType sortType,
+                                  boolean asc, CrewCursor cursor) {
+        Path key = root.get(sortType.getProperty());
+        Path<Long> id = root.get("id");
+        Comparable value = cursor.getSortValue();
+        Predicate idAfter = asc ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+
+        if (value == null) {
+            return asc
+                    ? cb.or(cb.and(cb.isNull(key), idAfter), cb.isNotNull(key))
+                    : cb.and(cb.isNull(key), idAfter);
+        }
+
+        Predicate keyAfter = asc ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate tie = cb.and(cb.equal(key, value), idAfter);
+        return asc ? cb.or(keyAfter, tie) : cb.or(keyAfter, tie, cb.isNull(key));
+    }
+}
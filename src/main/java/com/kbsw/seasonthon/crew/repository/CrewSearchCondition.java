@@ -0,0 +1,31 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 크루 검색 조건 (요청 값을 enum 등으로 변환한 정규화된 형태)
+ * null 인 필드는 조건에서 제외된다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CrewSearchCondition {
+    private final String startLocation;
+    private final CrewStatus status;
+    private final SafetyLevel safetyLevel;
+    private final Double maxDistance;
+    private final Integer maxPaceSeconds;      // 이 값 이하(같거나 빠른)의 페이스
+    private final LocalDateTime startTimeFrom;
+    private final Collection<Long> crewIds;     // 키워드/태그 인메모리 색인으로 미리 좁힌 후보 id (null 이면 제한 없음)
+    // 태그 후보가 너무 많아 id 목록 대신 SQL 로 거르는 경우의 태그 조건
+    private final Collection<String> anyTags;   // 하나라도 포함
+    private final Collection<String> allTags;   // 모두 포함
+    private final Collection<String> noneTags;  // 하나도 포함하지 않음
+    // 키워드 후보가 상한(BM25 상위 N건)에서 잘렸는지 (조회 조건이 아니라 응답에 알리기 위한 값)
+    private final boolean keywordTruncated;
+}
@@ -0,0 +1,35 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 크루 변경 버전 (조건부 GET 용, JPQL 생성자 프로젝션으로도 사용)
+ * revision 은 크루 수정과 참여자 변경 때마다 원자적으로 증가한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewVersion {
+    private final Long id;
+    private final Long revision;
+    private final LocalDateTime modifiedAt;
+
+    public String etag() {
+        return etag(id, revision);
+    }
+
+    public long lastModifiedMillis() {
+        return toEpochMillis(modifiedAt);
+    }
+
+    public static String etag(Long crewId, Long revision) {
+        return "\"crew-" + crewId + "-" + revision + "\"";
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,187 @@
+package com.kbsw.seasonthon.crew.search;
+
+import com.kbsw.seasonthon.crew.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 크루 출발지/경로 위치 인메모리 격자 색인
+ * 위경도를 0.01도(약 1km) 격자로 나누고, 크루를 경유지가 놓인 칸마다 등록한다.
+ * 반경 검색은 원을 덮는 칸의 후보만 모아 실제 거리로 거른 뒤 가까운 순으로 돌려준다.
+ * 거리 기준(출발지, 가장 가까운 경유지)이 모두 경유지이므로 반경 안 경유지는 반드시 덮인 칸에 있고,
+ * 등록 칸 수는 경로 길이와 무관하게 경유지 수 이하라 긴 경로도 빠짐없이 찾는다.
+ */
+@Component
+@Slf4j
+public class CrewGeoIndex {
+
+    private static final double CELL_DEGREES = 0.01;
+
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 출발 지점(첫 경유지), 경로 bounding box, 경유지 좌표 [lat0, lon0, lat1, lon1, ...]
+    private record Entry(double startLat, double startLon,
+                         double minLat, double minLon, double maxLat, double maxLon,
+                         double[] coordinates, List<Long> cellKeys) {
+    }
+
+    public record Hit(Long crewId, double distanceKm) {
+    }
+
+    public void rebuild(Map<Long, double[]> coordinatesByCrew) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            entries.clear();
+            coordinatesByCrew.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("크루 위치 색인 재구성 완료 - 크루 수: {}", entries.size());
+    }
+
+    // coordinates: [lat0, lon0, lat1, lon1, ...]
+    public void index(Long crewId, double[] coordinates) {
+        lock.writeLock().lock();
+        try {
+            delete(crewId);
+            put(crewId, coordinates);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long crewId) {
+        lock.writeLock().lock();
+        try {
+            delete(crewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 내 크루 (가까운 순, 최대 limit 건)
+     * includeRoute 가 false 면 출발 지점까지의 거리, true 면 가장 가까운 경유지까지의 거리를 기준으로 한다.
+     * (경유지 거리는 bounding box 까지의 거리로 먼저 걸러 반경 밖 크루는 계산하지 않는다)
+     */
+    public List<Hit> nearby(double lat, double lon, double radiusKm, boolean includeRoute, int limit) {
+        double latDelta = GeoUtils.kmToLatDegrees(radiusKm);
+        double lonDelta = GeoUtils.kmToLonDegrees(radiusKm, lat);
+        long minLatCell = cell(lat - latDelta);
+        long maxLatCell = cell(lat + latDelta);
+        long minLonCell = cell(lon - lonDelta);
+        long maxLonCell = cell(lon + lonDelta);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (long lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    Set<Long> crewIds = cells.get(key(latCell, lonCell));
+                    if (crewIds != null) {
+                        candidates.addAll(crewIds);
+                    }
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (Long crewId : candidates) {
+                Entry entry = entries.get(crewId);
+                double distance = includeRoute
+                        ? nearestWaypointKm(entry, lat, lon, radiusKm)
+                        : GeoUtils.haversineKm(lat, lon, entry.startLat(), entry.startLon());
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(crewId, distance));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long crewId, double[] coordinates) {
+        if (coordinates == null || coordinates.length < 2) {
+            return;
+        }
+        double minLat = coordinates[0];
+        double maxLat = coordinates[0];
+        double minLon = coordinates[1];
+        double maxLon = coordinates[1];
+        for (int i = 2; i + 1 < coordinates.length; i += 2) {
+            minLat = Math.min(minLat, coordinates[i]);
+            maxLat = Math.max(maxLat, coordinates[i]);
+            minLon = Math.min(minLon, coordinates[i + 1]);
+            maxLon = Math.max(maxLon, coordinates[i + 1]);
+        }
+
+        // 경유지가 놓인 칸 (중복 제거, 출발지 칸 포함)
+        Set<Long> distinctCells = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            distinctCells.add(key(cell(coordinates[i]), cell(coordinates[i + 1])));
+        }
+        List<Long> cellKeys = new ArrayList<>(distinctCells);
+
+        for (Long cellKey : cellKeys) {
+            cells.computeIfAbsent(cellKey, key -> new HashSet<>()).add(crewId);
+        }
+        entries.put(crewId, new Entry(coordinates[0], coordinates[1], minLat, minLon, maxLat, maxLon,
+                coordinates.clone(), cellKeys));
+    }
+
+    private void delete(Long crewId) {
+        Entry entry = entries.remove(crewId);
+        if (entry == null) {
+            return;
+        }
+        for (Long cellKey : entry.cellKeys()) {
+            Set<Long> crewIds = cells.get(cellKey);
+            crewIds.remove(crewId);
+            if (crewIds.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    // 가장 가까운 경유지까지의 거리 (bounding box 가 반경 밖이면 그 거리를 그대로 반환)
+    private static double nearestWaypointKm(Entry entry, double lat, double lon, double radiusKm) {
+        double boxKm = GeoUtils.haversineKm(lat, lon,
+                clamp(lat, entry.minLat(), entry.maxLat()), clamp(lon, entry.minLon(), entry.maxLon()));
+        if (boxKm > radiusKm) {
+            return boxKm;
+        }
+        double[] coordinates = entry.coordinates();
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            nearest = Math.min(nearest, GeoUtils.haversineKm(lat, lon, coordinates[i], coordinates[i + 1]));
+        }
+        return nearest;
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(long latCell, long lonCell) {
+        return (latCell << 32) ^ (lonCell & 0xffffffffL);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
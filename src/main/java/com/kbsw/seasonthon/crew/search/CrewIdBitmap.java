@@ -0,0 +1,424 @@
+package com.kbsw.seasonthon.crew.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 크루 id 집합용 압축 비트맵 (Roaring 방식)
+ * id 의 상위 16비트로 청크를 나누고, 청크마다 원소가 적으면 정렬 배열(char[]), 많으면 65536비트 비트맵(long[1024])에 저장한다.
+ * 집합 연산(and/or/andNot)은 새 비트맵을 반환하며, add/remove 는 호출 측에서 동기화해야 한다.
+ * 0 ~ Integer.MAX_VALUE 범위의 id 만 담을 수 있다 (supports 로 먼저 확인).
+ */
+public final class CrewIdBitmap {
+
+    // 배열 컨테이너 최대 크기 (이보다 많으면 비트맵 컨테이너가 더 작다)
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private int[] keys = new int[0];
+    private Object[] containers = new Object[0];     // char[] (배열) 또는 long[] (비트맵)
+    private int[] cardinalities = new int[0];
+    private int size;                                // 청크 수
+
+    public static CrewIdBitmap of(Iterable<Long> ids) {
+        CrewIdBitmap bitmap = new CrewIdBitmap();
+        ids.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    public static boolean supports(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    public void add(long id) {
+        int value = checkedValue(id);
+        int key = value >>> 16;
+        char low = (char) value;
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new char[]{low}, 1);
+            return;
+        }
+        Object container = containers[index];
+        if (container instanceof long[] words) {
+            if ((words[low >>> 6] & (1L << low)) == 0) {
+                words[low >>> 6] |= 1L << low;
+                cardinalities[index]++;
+            }
+            return;
+        }
+        char[] values = (char[]) container;
+        int cardinality = cardinalities[index];
+        int position = Arrays.binarySearch(values, 0, cardinality, low);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (cardinality == ARRAY_MAX) {
+            long[] words = toWords(values, cardinality);
+            words[low >>> 6] |= 1L << low;
+            containers[index] = words;
+            cardinalities[index] = cardinality + 1;
+            return;
+        }
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            containers[index] = values;
+        }
+        System.arraycopy(values, position, values, position + 1, cardinality - position);
+        values[position] = low;
+        cardinalities[index] = cardinality + 1;
+    }
+
+    public void remove(long id) {
+        int value = checkedValue(id);
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        if (index < 0) {
+            return;
+        }
+        char low = (char) value;
+        Object container = containers[index];
+        if (container instanceof long[] words) {
+            if ((words[low >>> 6] & (1L << low)) != 0) {
+                words[low >>> 6] &= ~(1L << low);
+                cardinalities[index]--;
+                if (cardinalities[index] <= ARRAY_MAX) {
+                    containers[index] = toValues(words, cardinalities[index]);
+                }
+            }
+        } else {
+            char[] values = (char[]) container;
+            int cardinality = cardinalities[index];
+            int position = Arrays.binarySearch(values, 0, cardinality, low);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinalities[index]--;
+        }
+        if (cardinalities[index] == 0) {
+            removeChunk(index);
+        }
+    }
+
+    public boolean contains(long id) {
+        if (!supports(id)) {
+            return false;
+        }
+        int value = (int) id;
+        int index = Arrays.binarySearch(keys, 0, size, value >>> 16);
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) value;
+        Object container = containers[index];
+        if (container instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, 0, cardinalities[index], low) >= 0;
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += cardinalities[i];
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 오름차순 id 목록
+    public List<Long> toList() {
+        List<Long> ids = new ArrayList<>(cardinality());
+        for (int i = 0; i < size; i++) {
+            long high = (long) keys[i] << 16;
+            Object container = containers[i];
+            if (container instanceof long[] words) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        ids.add(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                char[] values = (char[]) container;
+                for (int v = 0; v < cardinalities[i]; v++) {
+                    ids.add(high | values[v]);
+                }
+            }
+        }
+        return ids;
+    }
+
+    public CrewIdBitmap copy() {
+        CrewIdBitmap copy = new CrewIdBitmap();
+        copy.keys = Arrays.copyOf(keys, size);
+        copy.cardinalities = Arrays.copyOf(cardinalities, size);
+        copy.containers = new Object[size];
+        for (int i = 0; i < size; i++) {
+            Object container = containers[i];
+            copy.containers[i] = container instanceof long[] words
+                    ? words.clone()
+                    : Arrays.copyOf((char[]) container, cardinalities[i]);
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    public CrewIdBitmap and(CrewIdBitmap other) {
+        CrewIdBitmap result = new CrewIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(keys[i], and(containers[i], cardinalities[i],
+                        other.containers[j], other.cardinalities[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public CrewIdBitmap or(CrewIdBitmap other) {
+        CrewIdBitmap result = new CrewIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], copyOf(containers[i], cardinalities[i]));
+                i++;
+            } else if (i >= size || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], copyOf(other.containers[j], other.cardinalities[j]));
+                j++;
+            } else {
+                result.appendChunk(keys[i], or(containers[i], cardinalities[i],
+                        other.containers[j], other.cardinalities[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public CrewIdBitmap andNot(CrewIdBitmap other) {
+        CrewIdBitmap result = new CrewIdBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendChunk(keys[i], andNot(containers[i], cardinalities[i],
+                        other.containers[j], other.cardinalities[j]));
+            } else {
+                result.appendChunk(keys[i], copyOf(containers[i], cardinalities[i]));
+            }
+        }
+        return result;
+    }
+
+    // ---- 컨테이너 연산 (결과는 {container, cardinality} 형태의 Chunk) ----
+
+    private record Chunk(Object container, int cardinality) {
+    }
+
+    private static Chunk and(Object a, int aCard, Object b, int bCard) {
+        if (a instanceof long[] aw && b instanceof long[] bw) {
+            long[] words = new long[BITMAP_WORDS];
+            int cardinality = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] = aw[w] & bw[w];
+                cardinality += Long.bitCount(words[w]);
+            }
+            return normalize(words, cardinality);
+        }
+        if (a instanceof char[] av && b instanceof char[] bv) {
+            char[] values = new char[Math.min(aCard, bCard)];
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < aCard && j < bCard) {
+                if (av[i] < bv[j]) {
+                    i++;
+                } else if (av[i] > bv[j]) {
+                    j++;
+                } else {
+                    values[cardinality++] = av[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new Chunk(values, cardinality);
+        }
+        // 배열 ∧ 비트맵: 배열 원소 중 비트가 켜진 것만 남긴다
+        char[] values = (char[]) (a instanceof char[] ? a : b);
+        int valueCount = a instanceof char[] ? aCard : bCard;
+        long[] words = (long[]) (a instanceof long[] ? a : b);
+        char[] filtered = new char[valueCount];
+        int cardinality = 0;
+        for (int i = 0; i < valueCount; i++) {
+            char value = values[i];
+            if ((words[value >>> 6] & (1L << value)) != 0) {
+                filtered[cardinality++] = value;
+            }
+        }
+        return new Chunk(filtered, cardinality);
+    }
+
+    private static Chunk or(Object a, int aCard, Object b, int bCard) {
+        if (a instanceof char[] av && b instanceof char[] bv && aCard + bCard <= ARRAY_MAX) {
+            char[] values = new char[aCard + bCard];
+            int cardinality = 0;
+            int i = 0;
+            int j = 0;
+            while (i < aCard || j < bCard) {
+                if (j >= bCard || (i < aCard && av[i] < bv[j])) {
+                    values[cardinality++] = av[i++];
+                } else if (i >= aCard || av[i] > bv[j]) {
+                    values[cardinality++] = bv[j++];
+                } else {
+                    values[cardinality++] = av[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new Chunk(values, cardinality);
+        }
+        long[] words = a instanceof long[] aw ? aw.clone() : toWords((char[]) a, aCard);
+        if (b instanceof long[] bw) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] |= bw[w];
+            }
+        } else {
+            char[] bv = (char[]) b;
+            for (int i = 0; i < bCard; i++) {
+                words[bv[i] >>> 6] |= 1L << bv[i];
+            }
+        }
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return normalize(words, cardinality);
+    }
+
+    private static Chunk andNot(Object a, int aCard, Object b, int bCard) {
+        if (a instanceof char[] av) {
+            char[] values = new char[aCard];
+            int cardinality = 0;
+            for (int i = 0; i < aCard; i++) {
+                if (!containerContains(b, bCard, av[i])) {
+                    values[cardinality++] = av[i];
+                }
+            }
+            return new Chunk(values, cardinality);
+        }
+        long[] words = ((long[]) a).clone();
+        if (b instanceof long[] bw) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                words[w] &= ~bw[w];
+            }
+        } else {
+            char[] bv = (char[]) b;
+            for (int i = 0; i < bCard; i++) {
+                words[bv[i] >>> 6] &= ~(1L << bv[i]);
+            }
+        }
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return normalize(words, cardinality);
+    }
+
+    private static boolean containerContains(Object container, int cardinality, char value) {
+        if (container instanceof long[] words) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+        return Arrays.binarySearch((char[]) container, 0, cardinality, value) >= 0;
+    }
+
+    private static Chunk copyOf(Object container, int cardinality) {
+        return container instanceof long[] words
+                ? new Chunk(words.clone(), cardinality)
+                : new Chunk(Arrays.copyOf((char[]) container, cardinality), cardinality);
+    }
+
+    private static Chunk normalize(long[] words, int cardinality) {
+        return cardinality <= ARRAY_MAX
+                ? new Chunk(toValues(words, cardinality), cardinality)
+                : new Chunk(words, cardinality);
+    }
+
+    private static long[] toWords(char[] values, int cardinality) {
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < cardinality; i++) {
+            words[values[i] >>> 6] |= 1L << values[i];
+        }
+        return words;
+    }
+
+    private static char[] toValues(long[] words, int cardinality) {
+        char[] values = new char[cardinality];
+        int index = 0;
+        for (int w = 0; w < BITMAP_WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                values[index++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+
+    private static int checkedValue(long id) {
+        if (!supports(id)) {
+            throw new IllegalArgumentException("비트맵에 담을 수 없는 크루 id 입니다: " + id);
+        }
+        return (int) id;
+    }
+
+    // ---- 청크 배열 관리 ----
+
+    private void appendChunk(int key, Chunk chunk) {
+        if (chunk.cardinality() == 0) {
+            return;
+        }
+        insertChunk(size, key, chunk.container(), chunk.cardinality());
+    }
+
+    private void insertChunk(int index, int key, Object container, int cardinality) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+            cardinalities = Arrays.copyOf(cardinalities, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        System.arraycopy(cardinalities, index, cardinalities, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        cardinalities[index] = cardinality;
+        size++;
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        System.arraycopy(cardinalities, index + 1, cardinalities, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.kbsw.seasonthon.crew.search;
+
+import com.kbsw.seasonthon.crew.event.CrewChangedEvent;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import com.kbsw.seasonthon.global.util.PolylineCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크루 인메모리 검색 색인 관리
+ * 기동 시 전체 재구성, 이후에는 커밋된 크루 변경 이벤트로 증분 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class CrewSearchIndexUpdater {
+
+    private final CrewRepository crewRepository;
+    private final CrewTextIndex crewTextIndex;
+    private final CrewTagIndex crewTagIndex;
+    private final CrewGeoIndex crewGeoIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        crewTextIndex.rebuild(crewRepository.findAllTextDocuments());
+
+        Map<Long, List<String>> tagsByCrew = new HashMap<>();
+        for (Object[] row : crewRepository.findAllCrewTags()) {
+            tagsByCrew.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        crewTagIndex.rebuild(crewRepository.findAllIds(), tagsByCrew);
+
+        Map<Long, double[]> coordinatesByCrew = new HashMap<>();
+        for (Object[] row : crewRepository.findAllCrewWaypointPolylines()) {
+            coordinatesByCrew.put((Long) row[0], PolylineCodec.decode((String) row[1]));
+        }
+        crewGeoIndex.rebuild(coordinatesByCrew);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        if (event.getType() == CrewChangedEvent.Type.DELETED) {
+            crewTextIndex.remove(event.getCrewId());
+            crewTagIndex.remove(event.getCrewId());
+            crewGeoIndex.remove(event.getCrewId());
+            return;
+        }
+        crewTagIndex.index(event.getCrewId(), event.getTags());
+        crewGeoIndex.index(event.getCrewId(), event.getCoordinates());
+        crewTextIndex.index(new CrewTextDocument(
+                event.getCrewId(), event.getTitle(), event.getDescription(), event.getStartLocation()));
+    }
+}
@@ -0,0 +1,180 @@
+package com.kbsw.seasonthon.crew.search;
+
+import com.kbsw.seasonthon.crew.enums.TagMatchMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 -> 크루 id 비트맵 인메모리 색인
+ * 여러 태그의 AND/OR/NOT 조합을 비트맵 연산으로 계산해 후보 크루 id 집합을 돌려준다.
+ * 태그는 normalize(앞뒤 공백 제거 + 소문자) 한 값으로 비교하며, SQL 태그 조건도 같은 규칙을 쓴다.
+ * 비트맵에 담을 수 없는 id 의 크루는 색인에서 빼고 isComplete() 로 알려, 호출 측이 SQL 조건으로 거르게 한다.
+ */
+@Component
+@Slf4j
+public class CrewTagIndex {
+
+    private final Map<String, CrewIdBitmap> tagBitmaps = new HashMap<>();
+    private final Map<Long, List<String>> crewTags = new HashMap<>();
+    // 비트맵 범위를 벗어나 색인하지 못한 크루 id
+    private final Set<Long> unindexed = new HashSet<>();
+    // NOT 연산의 전체 집합
+    private CrewIdBitmap allCrews = new CrewIdBitmap();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void rebuild(Collection<Long> crewIds, Map<Long, List<String>> tagsByCrew) {
+        lock.writeLock().lock();
+        try {
+            tagBitmaps.clear();
+            crewTags.clear();
+            unindexed.clear();
+            allCrews = new CrewIdBitmap();
+            for (Long crewId : crewIds) {
+                put(crewId, tagsByCrew.getOrDefault(crewId, List.of()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("크루 태그 색인 재구성 완료 - 크루 수: {}, 태그 수: {}", crewIds.size(), tagBitmaps.size());
+    }
+
+    public void index(Long crewId, List<String> tags) {
+        lock.writeLock().lock();
+        try {
+            delete(crewId);
+            put(crewId, tags);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long crewId) {
+        lock.writeLock().lock();
+        try {
+            delete(crewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 모든 크루가 색인되어 match 결과를 그대로 후보로 쓸 수 있는지
+    public boolean isComplete() {
+        lock.readLock().lock();
+        try {
+            return unindexed.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 태그 비교 규칙: 앞뒤 공백 제거 + 소문자 (빈 태그는 null)
+    public static String normalize(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return null;
+        }
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> normalizeAll(Collection<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+                .map(CrewTagIndex::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 태그 조건에 맞는 크루 id 집합
+     * tags 는 mode 에 따라 OR/AND/NOT 으로 결합하고, excludeTags 에 해당하는 크루는 제외한다.
+     */
+    public CrewIdBitmap match(List<String> tags, TagMatchMode mode, List<String> excludeTags) {
+        tags = tags != null ? normalizeAll(tags) : null;
+        excludeTags = excludeTags != null ? normalizeAll(excludeTags) : null;
+        lock.readLock().lock();
+        try {
+            CrewIdBitmap result;
+            if (tags == null || tags.isEmpty()) {
+                result = allCrews.copy();
+            } else if (mode == TagMatchMode.AND) {
+                result = null;
+                for (String tag : tags) {
+                    CrewIdBitmap bitmap = bitmapOf(tag);
+                    result = result == null ? bitmap.copy() : result.and(bitmap);
+                    if (result.isEmpty()) {
+                        break;
+                    }
+                }
+            } else {
+                result = union(tags);
+                if (mode == TagMatchMode.NOT) {
+                    result = allCrews.andNot(result);
+                }
+            }
+
+            if (excludeTags != null && !excludeTags.isEmpty()) {
+                result = result.andNot(union(excludeTags));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CrewIdBitmap union(List<String> tags) {
+        CrewIdBitmap result = new CrewIdBitmap();
+        for (String tag : tags) {
+            result = result.or(bitmapOf(tag));
+        }
+        return result;
+    }
+
+    private CrewIdBitmap bitmapOf(String tag) {
+        CrewIdBitmap bitmap = tagBitmaps.get(tag);
+        return bitmap != null ? bitmap : new CrewIdBitmap();
+    }
+
+    private void put(Long crewId, List<String> tags) {
+        if (!CrewIdBitmap.supports(crewId)) {
+            unindexed.add(crewId);
+            log.warn("태그 색인 범위를 벗어난 크루 id - 태그 검색은 SQL 조건으로 처리합니다: {}", crewId);
+            return;
+        }
+        List<String> copied = normalizeAll(tags);
+        for (String tag : copied) {
+            tagBitmaps.computeIfAbsent(tag, key -> new CrewIdBitmap()).add(crewId);
+        }
+        crewTags.put(crewId, copied);
+        allCrews.add(crewId);
+    }
+
+    private void delete(Long crewId) {
+        unindexed.remove(crewId);
+        List<String> tags = crewTags.remove(crewId);
+        if (tags == null) {
+            return;
+        }
+        for (String tag : tags) {
+            CrewIdBitmap bitmap = tagBitmaps.get(tag);
+            bitmap.remove(crewId);
+            if (bitmap.isEmpty()) {
+                tagBitmaps.remove(tag);
+            }
+        }
+        allCrews.remove(crewId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.kbsw.seasonthon.crew.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 텍스트 색인 대상 필드 (JPQL 생성자 프로젝션으로도 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewTextDocument {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String startLocation;
+}
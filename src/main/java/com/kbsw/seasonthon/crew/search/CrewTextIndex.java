@@ -0,0 +1,147 @@
+package com.kbsw.seasonthon.crew.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 크루 키워드 검색용 인메모리 역색인 (title + description + startLocation)
+ * 검색어의 모든 토큰을 포함하는 크루만 후보로 삼고 BM25 점수 순으로 id 를 반환한다.
+ */
+@Component
+@Slf4j
+public class CrewTextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // term -> (crewId -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // crewId -> 문서에 포함된 term 목록 (삭제/갱신 시 postings 정리용)
+    private final Map<Long, Collection<String>> documentTerms = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void rebuild(Collection<CrewTextDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+            documentLengths.clear();
+            totalLength = 0;
+            documents.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("크루 텍스트 색인 재구성 완료 - 문서 수: {}", documents.size());
+    }
+
+    public void index(CrewTextDocument document) {
+        lock.writeLock().lock();
+        try {
+            delete(document.getId());
+            put(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long crewId) {
+        lock.writeLock().lock();
+        try {
+            delete(crewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // BM25 점수 내림차순 crewId 목록 (최대 limit 건)
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(KoreanBigramTokenizer.tokenizeQuery(query)));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            // 문서 수가 가장 적은 term 부터 교집합을 구한다
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documentLengths.size();
+            double averageLength = (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long crewId : termPostings.get(0).keySet()) {
+                double score = 0;
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer tf = posting.get(crewId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    double norm = K1 * (1 - B + B * documentLengths.get(crewId) / averageLength);
+                    score += idf * tf * (K1 + 1) / (tf + norm);
+                }
+                scores.put(crewId, score);
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(CrewTextDocument document) {
+        List<String> tokens = new ArrayList<>();
+        tokens.addAll(KoreanBigramTokenizer.tokenizeDocument(document.getTitle()));
+        tokens.addAll(KoreanBigramTokenizer.tokenizeDocument(document.getDescription()));
+        tokens.addAll(KoreanBigramTokenizer.tokenizeDocument(document.getStartLocation()));
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        frequencies.forEach((term, tf) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.getId(), tf));
+
+        documentTerms.put(document.getId(), frequencies.keySet());
+        documentLengths.put(document.getId(), tokens.size());
+        totalLength += tokens.size();
+    }
+
+    private void delete(Long crewId) {
+        Collection<String> terms = documentTerms.remove(crewId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(crewId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= documentLengths.remove(crewId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.kbsw.seasonthon.crew.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 검색용 n-gram 토크나이저
+ * 형태소 분석 없이 글자/숫자 연속 구간을 단어로 보고, 문서는 1-gram + 2-gram 으로,
+ * 검색어는 2-gram(한 글자 단어는 1-gram) 으로 쪼갠다.
+ * "금강달리기" 처럼 띄어쓰기가 없는 입력도 부분 문자열 검색처럼 동작한다.
+ */
+public final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    // 문서 색인용 토큰 (중복 포함, tf 계산에 사용)
+    public static List<String> tokenizeDocument(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰
+    public static List<String> tokenizeQuery(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                word.append(ch);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
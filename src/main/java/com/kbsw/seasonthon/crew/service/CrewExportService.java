@@ -0,0 +1,188 @@
+package com.kbsw.seasonthon.crew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kbsw.seasonthon.crew.dto.response.CrewExportRecord;
+import com.kbsw.seasonthon.crew.enums.CrewExportFormat;
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
+import com.kbsw.seasonthon.crew.repository.CrewListRow;
+import com.kbsw.seasonthon.crew.repository.CrewParticipantRepository;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 크루 내보내기
+ * 크루는 id 순 전진 전용 스트림으로 읽고, 태그/참여자는 CHUNK_SIZE 건씩 모아 한 번에 붙인 뒤 바로 응답에 흘려보낸다.
+ * 메모리에는 한 묶음만 남으므로 크루 수와 관계없이 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewExportService {
+
+    // 태그/참여자를 함께 조회하고 응답을 flush 하는 단위 (스트림 fetch size 와 동일)
+    private static final int CHUNK_SIZE = 500;
+
+    private static final List<String> CSV_CREW_COLUMNS = List.of(
+            "id", "title", "description", "status", "hostName", "maxParticipants", "approvedCount",
+            "routeId", "type", "distanceKm", "safetyScore", "safetyLevel", "durationMin",
+            "startLocation", "pace", "paceSecondsPerKm", "startTime", "createdAt", "modifiedAt", "tags");
+    private static final List<String> CSV_PARTICIPANT_COLUMNS = List.of(
+            "participantUserId", "participantUsername", "participantNickname", "participantStatus", "participantAppliedAt");
+
+    private final CrewRepository crewRepository;
+    private final CrewParticipantRepository crewParticipantRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(CrewExportFormat format, boolean includeParticipants, CrewStatus status, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == CrewExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다
+            writer.write('\uFEFF');
+            List<String> header = new ArrayList<>(CSV_CREW_COLUMNS);
+            if (includeParticipants) {
+                header.addAll(CSV_PARTICIPANT_COLUMNS);
+            }
+            writeCsvLine(writer, header);
+        }
+
+        long count = 0;
+        List<CrewListRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<CrewListRow> rows = crewRepository.streamExportRows(status)) {
+            Iterator<CrewListRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    count += writeChunk(writer, chunk, format, includeParticipants);
+                    chunk.clear();
+                }
+            }
+            count += writeChunk(writer, chunk, format, includeParticipants);
+        }
+        writer.flush();
+
+        log.info("크루 내보내기 완료: format={}, participants={}, status={}, count={}, {}ms",
+                format, includeParticipants, status, count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+
+    private int writeChunk(Writer writer, List<CrewListRow> chunk, CrewExportFormat format,
+                           boolean includeParticipants) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = chunk.stream().map(CrewListRow::getId).collect(Collectors.toList());
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (Object[] row : crewRepository.findTagsByCrewIds(ids)) {
+            tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Long, List<CrewExportRecord.Participant>> participants = new HashMap<>();
+        if (includeParticipants) {
+            for (Object[] row : crewParticipantRepository.findExportRowsByCrewIds(ids)) {
+                participants.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(CrewExportRecord.Participant.builder()
+                                .userId((Long) row[1])
+                                .username((String) row[2])
+                                .nickname((String) row[3])
+                                .status((ParticipantStatus) row[4])
+                                .appliedAt((LocalDateTime) row[5])
+                                .build());
+            }
+        }
+
+        for (CrewListRow row : chunk) {
+            CrewExportRecord record = CrewExportRecord.from(row,
+                    tags.getOrDefault(row.getId(), List.of()),
+                    includeParticipants ? participants.getOrDefault(row.getId(), List.of()) : null);
+            if (format == CrewExportFormat.CSV) {
+                writeCsvRecord(writer, record);
+            } else {
+                writer.write(objectMapper.writeValueAsString(record));
+                writer.write('\n');
+            }
+        }
+        // 묶음마다 응답으로 내보내 클라이언트가 바로 받기 시작할 수 있게 한다
+        writer.flush();
+        return chunk.size();
+    }
+
+    // CSV 는 참여자 포함 시 참여자 한 명당 한 줄 (참여자가 없는 크루도 한 줄은 남긴다)
+    private void writeCsvRecord(Writer writer, CrewExportRecord record) throws IOException {
+        List<Object> crewValues = List.of(
+                nullable(record.getId()), nullable(record.getTitle()), nullable(record.getDescription()),
+                nullable(record.getStatus()), nullable(record.getHostName()), nullable(record.getMaxParticipants()),
+                nullable(record.getApprovedCount()), nullable(record.getRouteId()), nullable(record.getType()),
+                nullable(record.getDistanceKm()), nullable(record.getSafetyScore()), nullable(record.getSafetyLevel()),
+                nullable(record.getDurationMin()), nullable(record.getStartLocation()), nullable(record.getPace()),
+                nullable(record.getPaceSecondsPerKm()), nullable(record.getStartTime()), nullable(record.getCreatedAt()),
+                nullable(record.getModifiedAt()), String.join("|", record.getTags()));
+
+        if (record.getParticipants() == null) {
+            writeCsvLine(writer, crewValues);
+            return;
+        }
+        if (record.getParticipants().isEmpty()) {
+            List<Object> line = new ArrayList<>(crewValues);
+            CSV_PARTICIPANT_COLUMNS.forEach(column -> line.add(""));
+            writeCsvLine(writer, line);
+            return;
+        }
+        for (CrewExportRecord.Participant participant : record.getParticipants()) {
+            List<Object> line = new ArrayList<>(crewValues);
+            line.add(nullable(participant.getUserId()));
+            line.add(nullable(participant.getUsername()));
+            line.add(nullable(participant.getNickname()));
+            line.add(nullable(participant.getStatus()));
+            line.add(nullable(participant.getAppliedAt()));
+            writeCsvLine(writer, line);
+        }
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values.get(i).toString());
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private Object nullable(Object value) {
+        return value != null ? value : "";
+    }
+}
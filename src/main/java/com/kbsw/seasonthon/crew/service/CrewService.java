@@ -1,39 +1,74 @@
 package com.kbsw.seasonthon.crew.service;
 
+import com.kbsw.seasonthon.crew.cache.CrewCountCache;
+import com.kbsw.seasonthon.crew.cache.CrewSearchKey;
+import com.kbsw.seasonthon.crew.cache.CrewSearchResultCache;
+import com.kbsw.seasonthon.crew.cache.MyCrewCache;
 import com.kbsw.seasonthon.crew.domain.Crew;
 import com.kbsw.seasonthon.crew.domain.CrewParticipant;
+import com.kbsw.seasonthon.crew.domain.CrewSortKeys;
 import com.kbsw.seasonthon.crew.dto.request.CrewCreateRequest;
+import com.kbsw.seasonthon.crew.dto.request.CrewNearbyRequest;
 import com.kbsw.seasonthon.crew.dto.request.CrewSearchRequest;
 import com.kbsw.seasonthon.crew.dto.request.CrewUpdateRequest;
 import com.kbsw.seasonthon.crew.dto.request.ParticipantApprovalRequest;
+import com.kbsw.seasonthon.crew.dto.request.ParticipantBatchApprovalRequest;
 import com.kbsw.seasonthon.crew.dto.response.CrewApplyResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewApprovalResponse;
+import com.kbsw.seasonthon.crew.dto.response.CrewBatchApprovalResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewCreateResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewDetailResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewListPageResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewListResponse;
+import com.kbsw.seasonthon.crew.dto.response.CrewNearbyResponse;
 import com.kbsw.seasonthon.crew.dto.response.CrewUpdateResponse;
+import com.kbsw.seasonthon.crew.enums.CrewSortType;
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.enums.TagMatchMode;
+import com.kbsw.seasonthon.crew.event.CrewChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewParticipantChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewStatusChangedEvent;
+import com.kbsw.seasonthon.crew.repository.CrewCursor;
+import com.kbsw.seasonthon.crew.repository.CrewListRow;
 import com.kbsw.seasonthon.crew.repository.CrewParticipantRepository;
 import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import com.kbsw.seasonthon.crew.repository.CrewSearchCondition;
+import com.kbsw.seasonthon.crew.repository.CrewVersion;
+import com.kbsw.seasonthon.crew.search.CrewGeoIndex;
+import com.kbsw.seasonthon.crew.search.CrewIdBitmap;
+import com.kbsw.seasonthon.crew.search.CrewTagIndex;
+import com.kbsw.seasonthon.crew.search.CrewTextIndex;
+import com.kbsw.seasonthon.crew.util.PaceParser;
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import com.kbsw.seasonthon.route.provider.RouteProvider;
 import com.kbsw.seasonthon.user.entity.User;
 import com.kbsw.seasonthon.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,38 +80,53 @@ public class CrewService {
     private final CrewRepository crewRepository;
     private final CrewParticipantRepository crewParticipantRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    private final RouteProvider routeProvider;
+    private final CrewTextIndex crewTextIndex;
+    private final CrewTagIndex crewTagIndex;
+    private final CrewGeoIndex crewGeoIndex;
+    private final CrewCountCache crewCountCache;
+    private final CrewSearchResultCache crewSearchResultCache;
+    private final MyCrewCache myCrewCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 키워드 검색 시 BM25 상위 몇 건까지 후보로 사용할지 (넘으면 응답의 keywordTruncated 로 알린다)
+    private static final int MAX_KEYWORD_HITS = 1000;
+    // 관련도순 정렬에서 조건 조회 한 번에 넘기는 후보 수
+    private static final int KEYWORD_CANDIDATE_BATCH = 500;
+    // 태그 색인 후보가 이보다 많으면 id IN 목록 대신 태그 조건을 SQL 로 넘긴다
+    private static final int MAX_TAG_CANDIDATE_IDS = 1000;
+    // 주변 크루 검색 반경 상한, 위치 색인에서 꺼내는 후보 수 상한과 조건 조회 한 번에 넘기는 후보 수
+    private static final double MAX_NEARBY_RADIUS_KM = 50.0;
+    private static final int MAX_NEARBY_HITS = 20_000;
+    private static final int NEARBY_CANDIDATE_BATCH = 500;
+    // 참여자 일괄 승인 한 번에 처리할 최대 인원
+    private static final int MAX_BATCH_APPROVALS = 500;
 
     public CrewCreateResponse createCrew(CrewCreateRequest request, User user) {
-        // 라우트 정보 조회
-        Map<String, Object> routeInfo = getRouteInfo(request.getRouteId());
-        
-        // waypoints를 String 리스트로 변환
-        @SuppressWarnings("unchecked")
-        List<List<Double>> waypointsList = (List<List<Double>>) routeInfo.get("waypoints");
-        List<String> waypoints = waypointsList.stream()
-                .map(point -> point.get(0) + "," + point.get(1))
-                .toList();
+        // 라우트 정보 조회 (프로세스 내 호출)
+        RouteResponse route = requireRouteInfo(routeProvider.getRoute(request.getRouteId()));
         
         Crew crew = Crew.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .host(user)
                 .maxParticipants(request.getMaxParticipants())
-                .routeId((String) routeInfo.get("route_id"))
-                .type((String) routeInfo.get("type"))
-                .distanceKm((Double) routeInfo.get("distance_km"))
-                .safetyScore((Integer) routeInfo.get("safety_score"))
-                .safetyLevel(SafetyLevel.fromScore((Integer) routeInfo.get("safety_score")))
-                .durationMin((Integer) routeInfo.get("duration_min"))
-                .waypoints(waypoints)
+                .routeId(route.getRouteId())
+                .type(route.getType())
+                .distanceKm(route.getDistanceKm())
+                .safetyScore(route.getSafetyScore())
+                .safetyLevel(SafetyLevel.fromScore(route.getSafetyScore()))
+                .durationMin(route.getDurationMin())
+                .waypoints(route.toLatLonStrings())
                 .tags(request.getTags() != null ? request.getTags() : List.of())
                 .startLocation(request.getStartLocation())
                 .pace(request.getPace())
+                .paceSecondsPerKm(PaceParser.toSecondsPerKm(request.getPace()))
                 .startTime(request.getStartTime())
                 .build();
         
         crewRepository.save(crew);
+        eventPublisher.publishEvent(CrewChangedEvent.created(crew));
         
         return CrewCreateResponse.builder()
                 .id(crew.getId())
@@ -100,7 +150,10 @@ public class CrewService {
     }
 
     public CrewUpdateResponse updateCrew(Long crewId, CrewUpdateRequest request, User user) {
-        Crew crew = crewRepository.findById(crewId)
+        // 정원을 바꿀 때는 크루 행을 잠가 승인 처리와 직렬화한다 (승인 인원을 읽은 뒤 자리 확보가 끼어들지 않도록)
+        Crew crew = (request.getMaxParticipants() != null
+                ? crewRepository.findByIdForUpdate(crewId)
+                : crewRepository.findById(crewId))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "크루를 찾을 수 없습니다."));
 
         if (!crew.canEdit(user)) {
@@ -114,8 +167,17 @@ public class CrewService {
             crew.updateDescription(request.getDescription());
         }
         if (request.getMaxParticipants() != null) {
+            if (request.getMaxParticipants() < crew.getApprovedCount()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "정원은 현재 승인 인원(" + crew.getApprovedCount() + "명)보다 적을 수 없습니다.");
+            }
             crew.updateMaxParticipants(request.getMaxParticipants());
         }
+        if (request.getRouteId() != null && !request.getRouteId().equals(crew.getRouteId())) {
+            RouteResponse route = requireRouteInfo(routeProvider.getRoute(request.getRouteId()));
+            crew.updateRouteInfo(route.getRouteId(), route.getType(), route.getDistanceKm(),
+                    route.getSafetyScore(), route.getDurationMin(), route.toLatLonStrings());
+        }
         if (request.getWaypoints() != null) {
             crew.updateWaypoints(request.getWaypoints());
         }
@@ -133,6 +195,12 @@ public class CrewService {
         }
 
         crewRepository.save(crew);
+        LocalDateTime now = LocalDateTime.now();
+        crewRepository.increaseRevision(crewId, now);
+        if (request.getMaxParticipants() != null && reopenIfSlotFreed(crewId, now)) {
+            crew.updateStatus(CrewStatus.OPEN);
+        }
+        eventPublisher.publishEvent(CrewChangedEvent.updated(crew));
 
         return CrewUpdateResponse.builder()
                 .id(crew.getId())
@@ -150,6 +218,7 @@ public class CrewService {
         }
 
         crewRepository.delete(crew);
+        eventPublisher.publishEvent(CrewChangedEvent.deleted(crewId, crew.getHost().getId()));
     }
 
     public CrewApplyResponse applyToCrew(Long crewId, User user) {
@@ -160,21 +229,36 @@ public class CrewService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 모집이 완료된 크루입니다.");
         }
 
-        if (crewParticipantRepository.existsByCrewAndUser(crew, user)) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 신청한 크루입니다.");
+        if (crew.getApprovedCount() >= crew.getMaxParticipants()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "정원이 가득 찬 크루입니다.");
         }
 
         if (crew.getHost().getId().equals(user.getId())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "호스트는 자신의 크루에 신청할 수 없습니다.");
         }
 
+        // 크루 행 잠금을 먼저 잡아 같은 크루의 신청끼리 순서를 정한다
+        // (참여자 INSERT 의 FK 공유 잠금 뒤에 크루 행을 갱신하면 동시 신청 사이에 교착이 생길 수 있음)
+        crewRepository.increaseRevision(crewId, LocalDateTime.now());
+
+        if (crewParticipantRepository.existsByCrewAndUser(crew, user)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 신청한 크루입니다.");
+        }
+
         CrewParticipant participant = CrewParticipant.builder()
                 .crew(crew)
                 .user(user)
                 .status(ParticipantStatus.APPLIED)
                 .build();
 
-        crewParticipantRepository.save(participant);
+        // 위 확인을 동시에 통과한 중복 신청은 유니크 제약에서 걸러진다 (재시도 없이 400)
+        try {
+            crewParticipantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 신청한 크루입니다.");
+        }
+        eventPublisher.publishEvent(new CrewParticipantChangedEvent(
+                crewId, user.getId(), crew.getHost().getId(), ParticipantStatus.APPLIED));
 
         return CrewApplyResponse.builder()
                 .status(ParticipantStatus.APPLIED)
@@ -182,7 +266,8 @@ public class CrewService {
     }
 
     public CrewApprovalResponse approveParticipant(Long crewId, Long userId, ParticipantApprovalRequest request, User host) {
-        Crew crew = crewRepository.findById(crewId)
+        // 일괄 승인과 같은 순서(크루 -> 참여자)로 잠그기 위해 크루 행부터 쓰기 잠금
+        Crew crew = crewRepository.findByIdForUpdate(crewId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "크루를 찾을 수 없습니다."));
 
         if (!crew.isHost(host) && !host.getRole().name().equals("ADMIN")) {
@@ -194,126 +279,611 @@ public class CrewService {
         CrewParticipant participant = crewParticipantRepository.findByCrewAndUser(crew, targetUser)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "참여 신청을 찾을 수 없습니다."));
 
+        // 참여자 상태와 크루 승인 인원은 조건부 UPDATE 로만 바꾼다
+        // 같은 참여자에 대한 동시 요청은 상태 변경에서, 정원 초과는 자리 확보에서 걸러진다
+        LocalDateTime now = LocalDateTime.now();
+        ParticipantStatus result;
         if (request.getApprove()) {
-            participant.approve();
+            int changed = crewParticipantRepository.changeStatus(participant.getId(),
+                    List.of(ParticipantStatus.APPLIED, ParticipantStatus.REJECTED), ParticipantStatus.APPROVED, now);
+            if (changed == 1 && crewRepository.reserveSlot(crewId, now) == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "정원이 가득 찬 크루입니다.");
+            }
+            result = ParticipantStatus.APPROVED;
         } else {
-            participant.reject();
+            if (crewParticipantRepository.changeStatus(participant.getId(),
+                    List.of(ParticipantStatus.APPROVED), ParticipantStatus.REJECTED, now) == 1) {
+                crewRepository.releaseSlot(crewId, now);
+                reopenIfSlotFreed(crewId, now);
+            } else {
+                crewParticipantRepository.changeStatus(participant.getId(),
+                        List.of(ParticipantStatus.APPLIED), ParticipantStatus.REJECTED, now);
+                crewRepository.increaseRevision(crewId, now);
+            }
+            result = ParticipantStatus.REJECTED;
         }
-
-        crewParticipantRepository.save(participant);
+        eventPublisher.publishEvent(new CrewParticipantChangedEvent(crewId, userId, crew.getHost().getId(), result));
 
         return CrewApprovalResponse.builder()
-                .status(participant.getStatus())
+                .status(result)
                 .build();
     }
 
-    public Map<String, Object> getRouteInfo(String routeId) {
-        try {
-            String url = "http://localhost:8080/api/route-single";
-            Map<String, Object> requestBody = Map.of("route_id", routeId);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(url, requestBody, Map.class);
-            
-            return response;
-        } catch (Exception e) {
-            log.error("라우트 정보 조회 실패: {}", e.getMessage());
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "라우트 정보를 가져올 수 없습니다."            );
+    // 참여자 일괄 승인/거절: 크루 잠금 1회 + 상태 조회 1회 + 집합 UPDATE 로 처리하고 정원은 한 번만 확인
+    public CrewBatchApprovalResponse approveParticipants(Long crewId, ParticipantBatchApprovalRequest request, User host) {
+        List<ParticipantBatchApprovalRequest.Decision> decisions = request.getDecisions();
+        if (decisions == null || decisions.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "처리할 참여자가 없습니다.");
         }
+        if (decisions.size() > MAX_BATCH_APPROVALS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 최대 " + MAX_BATCH_APPROVALS + "명까지 처리할 수 있습니다.");
+        }
+        for (ParticipantBatchApprovalRequest.Decision decision : decisions) {
+            if (decision == null || decision.getUserId() == null || decision.getApprove() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId 와 approve 는 필수입니다.");
+            }
+        }
+
+        // 트랜잭션이 끝날 때까지 같은 크루의 신청/승인/거절이 끼어들지 않는다
+        Crew crew = crewRepository.findByIdForUpdate(crewId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "크루를 찾을 수 없습니다."));
+
+        if (!crew.isHost(host) && !host.getRole().name().equals("ADMIN")) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "참여자를 승인할 권한이 없습니다.");
+        }
+
+        List<Long> userIds = decisions.stream()
+                .map(ParticipantBatchApprovalRequest.Decision::getUserId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Long> participantIds = new HashMap<>();
+        Map<Long, ParticipantStatus> statuses = new HashMap<>();
+        for (Object[] row : crewParticipantRepository.findStatusesByCrewIdAndUserIds(crewId, userIds)) {
+            participantIds.put((Long) row[1], (Long) row[0]);
+            statuses.put((Long) row[1], (ParticipantStatus) row[2]);
+        }
+
+        // 같은 요청 안의 거절로 비는 자리는 승인에 쓸 수 있다 (사용자별 첫 결정만 반영)
+        int approvedBefore = crew.getApprovedCount();
+        int slots = crew.getMaxParticipants() - approvedBefore;
+        Set<Long> seen = new HashSet<>();
+        for (ParticipantBatchApprovalRequest.Decision decision : decisions) {
+            if (seen.add(decision.getUserId()) && !decision.getApprove()
+                    && statuses.get(decision.getUserId()) == ParticipantStatus.APPROVED) {
+                slots++;
+            }
+        }
+
+        Map<Long, ParticipantStatus> after = new HashMap<>(statuses);
+        Map<Long, String> messages = new HashMap<>();
+        List<Long> toApprove = new ArrayList<>();
+        List<Long> toReject = new ArrayList<>();
+        Set<Long> changedUsers = new HashSet<>();
+        int delta = 0;
+        seen.clear();
+        for (ParticipantBatchApprovalRequest.Decision decision : decisions) {
+            Long userId = decision.getUserId();
+            if (!seen.add(userId)) {
+                continue;
+            }
+            ParticipantStatus current = statuses.get(userId);
+            if (current == null) {
+                messages.put(userId, "참여 신청을 찾을 수 없습니다.");
+            } else if (decision.getApprove()) {
+                if (current == ParticipantStatus.APPROVED) {
+                    continue;
+                }
+                if (slots <= 0) {
+                    messages.put(userId, "정원이 가득 찬 크루입니다.");
+                    continue;
+                }
+                slots--;
+                delta++;
+                toApprove.add(participantIds.get(userId));
+                after.put(userId, ParticipantStatus.APPROVED);
+                changedUsers.add(userId);
+            } else if (current != ParticipantStatus.REJECTED) {
+                if (current == ParticipantStatus.APPROVED) {
+                    delta--;
+                }
+                toReject.add(participantIds.get(userId));
+                after.put(userId, ParticipantStatus.REJECTED);
+                changedUsers.add(userId);
+            }
+        }
+
+        if (!changedUsers.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            // 크루 행을 잠근 상태에서 읽은 상태이므로 영향 행 수가 다르면 잠금 밖에서 바뀐 것 -> 전체 롤백
+            if (!toApprove.isEmpty() && crewParticipantRepository.changeStatusAll(toApprove,
+                    List.of(ParticipantStatus.APPLIED, ParticipantStatus.REJECTED), ParticipantStatus.APPROVED, now) != toApprove.size()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "참여자 상태가 변경되었습니다. 다시 시도해 주세요.");
+            }
+            if (!toReject.isEmpty() && crewParticipantRepository.changeStatusAll(toReject,
+                    List.of(ParticipantStatus.APPLIED, ParticipantStatus.APPROVED), ParticipantStatus.REJECTED, now) != toReject.size()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "참여자 상태가 변경되었습니다. 다시 시도해 주세요.");
+            }
+            if (crewRepository.adjustApprovedCount(crewId, delta, now) == 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "승인 인원이 정원 범위를 벗어납니다.");
+            }
+            if (delta < 0) {
+                reopenIfSlotFreed(crewId, now);
+            }
+            Long hostId = crew.getHost().getId();
+            changedUsers.forEach(userId -> eventPublisher.publishEvent(
+                    new CrewParticipantChangedEvent(crewId, userId, hostId, after.get(userId))));
+        }
+
+        List<CrewBatchApprovalResponse.Result> results = new ArrayList<>(decisions.size());
+        seen.clear();
+        for (ParticipantBatchApprovalRequest.Decision decision : decisions) {
+            Long userId = decision.getUserId();
+            boolean first = seen.add(userId);
+            results.add(CrewBatchApprovalResponse.Result.builder()
+                    .userId(userId)
+                    .status(after.get(userId))
+                    .changed(first && changedUsers.contains(userId))
+                    .message(first ? messages.get(userId) : "같은 사용자에 대한 중복 요청입니다.")
+                    .build());
+        }
+
+        return CrewBatchApprovalResponse.builder()
+                .approvedCount(approvedBefore + delta)
+                .maxParticipants(crew.getMaxParticipants())
+                .results(results)
+                .build();
     }
 
     // 크루 리스트 조회 (검색 및 필터링)
     @Transactional(readOnly = true)
     public CrewListPageResponse searchCrews(CrewSearchRequest request) {
+        // 같은 조건의 반복 요청은 결과 캐시에서 응답 (크루/참여자 변경 시 무효화)
+        return crewSearchResultCache.get(CrewSearchKey.of(request), () -> findCrews(request));
+    }
+    
+    private CrewListPageResponse findCrews(CrewSearchRequest request) {
+        if (request.getCursor() != null) {
+            return searchCrewsByCursor(request);
+        }
+        
+        // 검색 조건 변환
+        CrewSearchCondition condition = toSearchCondition(request);
+        CrewSortType sortType = CrewSortType.resolve(request.getSortType(), request.getSortBy());
+        if (sortType == CrewSortType.RELEVANCE && (request.getKeyword() == null || request.getKeyword().isBlank())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "관련도순(relevance) 정렬은 키워드 검색에서만 사용할 수 있습니다.");
+        }
+        if (condition.getCrewIds() != null && condition.getCrewIds().isEmpty()) {
+            return emptyPage(request, condition.isKeywordTruncated());
+        }
+        if (sortType == CrewSortType.RELEVANCE) {
+            return findCrewsByRelevance(request, condition);
+        }
+        
         // 정렬 설정
         Sort sort = createSort(request);
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
         
-        // 검색 조건 변환
-        CrewStatus status = request.getStatus() != null ? 
-            CrewStatus.valueOf(request.getStatus().toUpperCase()) : null;
-        SafetyLevel safetyLevel = request.getSafetyLevel() != null ? 
-            SafetyLevel.valueOf(request.getSafetyLevel().toUpperCase()) : null;
+        // 기본은 프로젝션 경로 (리스트 컬럼 1회 + 태그 1회), fullDetail 요청 시에만 엔티티 로딩
+        // 두 경로 모두 size + 1 건으로 다음 페이지 여부만 계산한다
+        Slice<CrewListResponse> crewSlice;
+        if (Boolean.TRUE.equals(request.getFullDetail())) {
+            crewSlice = crewRepository.searchCrews(condition, pageable).map(this::convertToCrewListResponse);
+        } else {
+            Slice<CrewListRow> rowSlice = crewRepository.searchCrewRows(condition, pageable);
+            crewSlice = new SliceImpl<>(convertRows(rowSlice.getContent()), pageable, rowSlice.hasNext());
+        }
         
-        Page<Crew> crewPage = crewRepository.searchCrews(
-            request.getKeyword(),
-            request.getStartLocation(),
-            status,
-            safetyLevel,
-            request.getTags(),
-            request.getMaxDistance(),
-            request.getMinPace(),
-            request.getStartTimeFrom(),
-            pageable
-        );
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (!Boolean.FALSE.equals(request.getWithTotal())) {
+            totalElements = countTotal(request, condition, crewSlice);
+            totalPages = (int) ((totalElements + pageable.getPageSize() - 1) / pageable.getPageSize());
+        }
         
-        List<CrewListResponse> crewList = crewPage.getContent().stream()
-            .map(this::convertToCrewListResponse)
-            .collect(Collectors.toList());
+        return CrewListPageResponse.builder()
+            .crews(crewSlice.getContent())
+            .currentPage(crewSlice.getNumber())
+            .totalPages(totalPages)
+            .totalElements(totalElements)
+            .size(crewSlice.getSize())
+            .hasNext(crewSlice.hasNext())
+            .hasPrevious(crewSlice.hasPrevious())
+            .isFirst(crewSlice.isFirst())
+            .isLast(crewSlice.isLast())
+            .keywordTruncated(condition.isKeywordTruncated())
+            .build();
+    }
+    
+    // 관련도순: 후보 id(BM25 순위)를 배치 단위로 조건 조회해 순위를 유지한 채 요청 페이지 + 1 건까지 채운다
+    private CrewListPageResponse findCrewsByRelevance(CrewSearchRequest request, CrewSearchCondition condition) {
+        List<Long> ranked = List.copyOf(condition.getCrewIds());
+        int size = request.getSize();
+        long offset = (long) request.getPage() * size;
+        List<CrewListRow> rows = new ArrayList<>();
+        int from = 0;
+        while (from < ranked.size() && rows.size() <= offset + size) {
+            List<Long> batchIds = ranked.subList(from, Math.min(from + KEYWORD_CANDIDATE_BATCH, ranked.size()));
+            Map<Long, CrewListRow> matched = new HashMap<>();
+            crewRepository.searchCrewRows(condition.toBuilder().crewIds(batchIds).build())
+                .forEach(row -> matched.put(row.getId(), row));
+            batchIds.stream()
+                .map(matched::get)
+                .filter(Objects::nonNull)
+                .forEach(rows::add);
+            from += batchIds.size();
+        }
+        
+        boolean hasNext = rows.size() > offset + size;
+        List<CrewListRow> pageRows = rows.subList((int) Math.min(offset, rows.size()), (int) Math.min(offset + size, rows.size()));
+        List<CrewListResponse> crews;
+        if (Boolean.TRUE.equals(request.getFullDetail()) && !pageRows.isEmpty()) {
+            List<Long> pageIds = pageRows.stream().map(CrewListRow::getId).collect(Collectors.toList());
+            Map<Long, Crew> loaded = new HashMap<>();
+            crewRepository.searchCrews(condition.toBuilder().crewIds(pageIds).build(), PageRequest.of(0, pageIds.size()))
+                .forEach(crew -> loaded.put(crew.getId(), crew));
+            crews = convertCrews(pageIds.stream().map(loaded::get).filter(Objects::nonNull).collect(Collectors.toList()));
+        } else {
+            crews = convertRows(pageRows);
+        }
+        
+        // 후보를 끝까지 훑었으면 건수가 정해지고, 아니면 다른 정렬과 같은 count 캐시를 쓴다
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (!Boolean.FALSE.equals(request.getWithTotal())) {
+            totalElements = from >= ranked.size()
+                ? rows.size()
+                : crewCountCache.get(CrewSearchKey.filterKey(request), () -> crewRepository.countCrews(condition));
+            totalPages = (int) ((totalElements + size - 1) / size);
+        }
+        
+        return CrewListPageResponse.builder()
+            .crews(crews)
+            .currentPage(request.getPage())
+            .totalPages(totalPages)
+            .totalElements(totalElements)
+            .size(size)
+            .hasNext(hasNext)
+            .hasPrevious(request.getPage() > 0)
+            .isFirst(request.getPage() == 0)
+            .isLast(!hasNext)
+            .keywordTruncated(condition.isKeywordTruncated())
+            .build();
+    }
+    
+    // 전체 건수: 마지막 페이지면 조회 결과로 바로 계산하고, 아니면 필터별 캐시(짧은 TTL)에서 가져온다
+    private long countTotal(CrewSearchRequest request, CrewSearchCondition condition, Slice<?> slice) {
+        if (!slice.hasNext() && (slice.hasContent() || slice.getNumber() == 0)) {
+            return slice.getPageable().getOffset() + slice.getNumberOfElements();
+        }
+        return crewCountCache.get(CrewSearchKey.filterKey(request), () -> crewRepository.countCrews(condition));
+    }
+    
+    // 커서(keyset) 페이징: 마지막 (정렬키, id) 이후 size + 1 건만 조회하고 count 쿼리는 생략
+    private CrewListPageResponse searchCrewsByCursor(CrewSearchRequest request) {
+        CrewSortType sortType = CrewSortType.resolve(request.getSortType(), request.getSortBy());
+        if (sortType == CrewSortType.RELEVANCE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "관련도순(relevance) 정렬은 커서 모드에서 사용할 수 없습니다. page 로 요청해 주세요.");
+        }
+        Sort.Direction direction = sortType.direction(request.getSortType(), request.getSortDirection());
+        CrewCursor cursor = request.getCursor().isBlank() ? null : CrewCursor.decode(request.getCursor(), sortType);
+        int size = request.getSize();
+        
+        CrewSearchCondition condition = toSearchCondition(request);
+        if (condition.getCrewIds() != null && condition.getCrewIds().isEmpty()) {
+            return emptyPage(request, condition.isKeywordTruncated());
+        }
+        
+        if (Boolean.TRUE.equals(request.getFullDetail())) {
+            List<Crew> crews = crewRepository.searchCrewsAfter(condition, sortType, direction, cursor, size + 1);
+            return toCursorPage(crews, size, sortType, cursor, condition.isKeywordTruncated(), this::convertCrews);
+        }
+        List<CrewListRow> rows = crewRepository.searchCrewRowsAfter(condition, sortType, direction, cursor, size + 1);
+        return toCursorPage(rows, size, sortType, cursor, condition.isKeywordTruncated(), this::convertRows);
+    }
+    
+    // size + 1 건 조회 결과로 다음 페이지 여부와 다음 커서 계산
+    private <T extends CrewSortKeys> CrewListPageResponse toCursorPage(List<T> crews, int size, CrewSortType sortType,
+                                                                    CrewCursor cursor, boolean keywordTruncated,
+                                                                    Function<List<T>, List<CrewListResponse>> converter) {
+        boolean hasNext = crews.size() > size;
+        List<T> pageCrews = hasNext ? crews.subList(0, size) : crews;
+        String nextCursor = hasNext
+            ? CrewCursor.of(sortType, pageCrews.get(pageCrews.size() - 1)).encode()
+            : null;
+        
+        List<CrewListResponse> crewList = converter.apply(pageCrews);
         
         return CrewListPageResponse.builder()
             .crews(crewList)
-            .currentPage(crewPage.getNumber())
-            .totalPages(crewPage.getTotalPages())
-            .totalElements(crewPage.getTotalElements())
-            .size(crewPage.getSize())
-            .hasNext(crewPage.hasNext())
-            .hasPrevious(crewPage.hasPrevious())
-            .isFirst(crewPage.isFirst())
-            .isLast(crewPage.isLast())
+            .currentPage(0)
+            .size(size)
+            .hasNext(hasNext)
+            .hasPrevious(cursor != null)
+            .isFirst(cursor == null)
+            .isLast(!hasNext)
+            .nextCursor(nextCursor)
+            .keywordTruncated(keywordTruncated)
+            .build();
+    }
+    
+    // 요청 값을 검색 조건으로 변환
+    // 키워드/태그는 인메모리 색인으로 후보 id 를 먼저 구한 뒤 나머지 조건과 함께 조회한다
+    private CrewSearchCondition toSearchCondition(CrewSearchRequest request) {
+        CrewSearchCondition.CrewSearchConditionBuilder builder = CrewSearchCondition.builder();
+        applyCandidateFilter(builder, request);
+        return builder
+            .startLocation(request.getStartLocation())
+            .status(parseStatus(request.getStatus()))
+            .safetyLevel(parseSafetyLevel(request.getSafetyLevel()))
+            .maxDistance(request.getMaxDistance())
+            .maxPaceSeconds(parsePace(request.getMinPace()))
+            .startTimeFrom(request.getStartTimeFrom())
+            .build();
+    }
+    
+    private CrewStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return CrewStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "크루 상태는 OPEN, CLOSED, CANCELLED 중 하나여야 합니다: " + status);
+        }
+    }
+    
+    private SafetyLevel parseSafetyLevel(String safetyLevel) {
+        if (safetyLevel == null || safetyLevel.isBlank()) {
+            return null;
+        }
+        try {
+            return SafetyLevel.valueOf(safetyLevel.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "안전 등급 값이 올바르지 않습니다: " + safetyLevel);
+        }
+    }
+    
+    private Integer parsePace(String pace) {
+        if (pace == null || pace.isBlank()) {
+            return null;
+        }
+        Integer seconds = PaceParser.toSecondsPerKm(pace);
+        if (seconds == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "페이스 형식이 올바르지 않습니다. (예: 6'00\"/km)");
+        }
+        return seconds;
+    }
+    
+    // 정원 도달로 마감됐던 크루에 자리가 나면 다시 모집중으로 바꾸고 알린다
+    private boolean reopenIfSlotFreed(Long crewId, LocalDateTime now) {
+        if (crewRepository.reopenIfSlotFreed(crewId, now) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new CrewStatusChangedEvent(List.of(crewId), CrewStatus.OPEN));
+        return true;
+    }
+
+    // 크루에 저장할 라우트 필수 값(거리, 안전 점수, 소요 시간) 확인. 라우트 소스가 비워 보내면 502
+    private RouteResponse requireRouteInfo(RouteResponse route) {
+        if (route.getDistanceKm() == null || route.getSafetyScore() == null || route.getDurationMin() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                    "라우트 정보(거리, 안전 점수, 소요 시간)가 없습니다: " + route.getRouteId());
+        }
+        return route;
+    }
+    
+    // 키워드(BM25 상위, 순위 순서 유지) ∩ 태그 비트맵을 후보 id 로 넘긴다. 두 조건이 모두 없으면 제한 없음
+    // 키워드 일치가 상한을 넘으면 상위 후보만 쓰고 keywordTruncated 로 표시한다
+    // 키워드 없이 태그만으로 고른 후보가 많으면 (NOT, 제외 태그 등) id 목록 대신 태그 조건을 SQL 로 넘긴다
+    private void applyCandidateFilter(CrewSearchCondition.CrewSearchConditionBuilder builder, CrewSearchRequest request) {
+        boolean hasKeyword = request.getKeyword() != null && !request.getKeyword().isBlank();
+        boolean hasTags = (request.getTags() != null && !request.getTags().isEmpty())
+            || (request.getExcludeTags() != null && !request.getExcludeTags().isEmpty());
+        TagMatchMode tagMode = TagMatchMode.from(request.getTagMode());
+        
+        // 색인하지 못한 크루가 있으면 비트맵 결과가 불완전하므로 태그 조건은 SQL 로 거른다
+        boolean tagsBySql = hasTags && !crewTagIndex.isComplete();
+        CrewIdBitmap tagMatches = hasTags && !tagsBySql
+            ? crewTagIndex.match(request.getTags(), tagMode, request.getExcludeTags())
+            : null;
+        
+        if (hasKeyword) {
+            List<Long> keywordHits = crewTextIndex.search(request.getKeyword(), MAX_KEYWORD_HITS + 1);
+            if (keywordHits.size() > MAX_KEYWORD_HITS) {
+                keywordHits = keywordHits.subList(0, MAX_KEYWORD_HITS);
+                builder.keywordTruncated(true);
+            }
+            builder.crewIds(tagMatches == null ? keywordHits : keywordHits.stream()
+                .filter(tagMatches::contains)
+                .collect(Collectors.toList()));
+            if (tagsBySql) {
+                applyTagPredicates(builder, request.getTags(), tagMode, request.getExcludeTags());
+            }
+        } else if (tagMatches != null && tagMatches.cardinality() <= MAX_TAG_CANDIDATE_IDS) {
+            builder.crewIds(tagMatches.toList());
+        } else if (hasTags) {
+            applyTagPredicates(builder, request.getTags(), tagMode, request.getExcludeTags());
+        }
+    }
+    
+    // 태그는 색인과 같은 규칙(CrewTagIndex.normalize)으로 맞춘 뒤 넘긴다
+    private void applyTagPredicates(CrewSearchCondition.CrewSearchConditionBuilder builder, List<String> tags,
+                                    TagMatchMode mode, List<String> excludeTags) {
+        Set<String> included = new HashSet<>(CrewTagIndex.normalizeAll(tags));
+        Set<String> excluded = new HashSet<>(CrewTagIndex.normalizeAll(excludeTags));
+        if (!included.isEmpty()) {
+            if (mode == TagMatchMode.AND) {
+                builder.allTags(included);
+            } else if (mode == TagMatchMode.NOT) {
+                excluded.addAll(included);
+            } else {
+                builder.anyTags(included);
+            }
+        }
+        builder.noneTags(excluded);
+    }
+    
+    // 후보가 없을 때 DB 조회 없이 빈 결과 반환
+    private CrewListPageResponse emptyPage(CrewSearchRequest request, boolean keywordTruncated) {
+        boolean cursorMode = request.getCursor() != null;
+        return CrewListPageResponse.builder()
+            .crews(List.of())
+            .currentPage(cursorMode ? 0 : request.getPage())
+            .totalPages(cursorMode ? null : 0)
+            .totalElements(cursorMode ? null : 0L)
+            .size(request.getSize())
+            .hasNext(false)
+            .hasPrevious(!cursorMode && request.getPage() > 0)
+            .isFirst(cursorMode ? request.getCursor().isBlank() : request.getPage() == 0)
+            .isLast(true)
+            .keywordTruncated(keywordTruncated)
+            .build();
+    }
+    
+    // 주변 크루 조회 (위치 색인 후보 -> 상태/거리/시간 필터 -> 가까운 순)
+    // 후보를 가까운 순으로 나눠 조건 조회하며, size 건을 채우거나 반경 안 후보가 떨어질 때까지 계속한다
+    @Transactional(readOnly = true)
+    public CrewNearbyResponse getNearbyCrews(CrewNearbyRequest request) {
+        if (request.getLat() == null || request.getLon() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "위도(lat)와 경도(lon)는 필수입니다.");
+        }
+        double radiusKm = Math.min(request.getRadiusKm() != null ? request.getRadiusKm() : 3.0, MAX_NEARBY_RADIUS_KM);
+        int size = Math.max(1, Math.min(request.getSize() != null ? request.getSize() : 20, 100));
+        CrewStatus status = parseStatus(request.getStatus());
+        
+        List<CrewGeoIndex.Hit> hits = crewGeoIndex.nearby(request.getLat(), request.getLon(), radiusKm,
+            Boolean.TRUE.equals(request.getIncludeRoute()), MAX_NEARBY_HITS);
+        
+        Map<Long, Double> distances = new HashMap<>();
+        hits.forEach(hit -> distances.put(hit.crewId(), hit.distanceKm()));
+        List<CrewListRow> rows = new ArrayList<>();
+        for (int from = 0; from < hits.size() && rows.size() < size; from += NEARBY_CANDIDATE_BATCH) {
+            List<Long> batchIds = hits.subList(from, Math.min(from + NEARBY_CANDIDATE_BATCH, hits.size())).stream()
+                .map(CrewGeoIndex.Hit::crewId)
+                .collect(Collectors.toList());
+            CrewSearchCondition condition = CrewSearchCondition.builder()
+                .crewIds(batchIds)
+                .status(status)
+                .maxDistance(request.getMaxDistance())
+                .startTimeFrom(request.getStartTimeFrom())
+                .build();
+            crewRepository.searchCrewRows(condition).stream()
+                .sorted(Comparator.comparingDouble(row -> distances.get(row.getId())))
+                .limit(size - rows.size())
+                .forEach(rows::add);
+        }
+        
+        List<CrewNearbyResponse.NearbyCrew> crews = convertRows(rows).stream()
+            .map(crew -> CrewNearbyResponse.NearbyCrew.builder()
+                .distanceFromMeKm(Math.round(distances.get(crew.getId()) * 100) / 100.0)
+                .crew(crew)
+                .build())
+            .collect(Collectors.toList());
+        
+        return CrewNearbyResponse.builder()
+            .lat(request.getLat())
+            .lon(request.getLon())
+            .radiusKm(radiusKm)
+            .crews(crews)
             .build();
     }
     
+    // 내 크루 (호스트이거나 승인된 참여자) - id 내림차순 keyset 페이지
+    // 크루 id 목록은 사용자별로 캐시하고, 페이지의 행만 프로젝션으로 조회한다
+    @Transactional(readOnly = true)
+    public CrewListPageResponse getMyCrews(User user, String cursor, Integer size) {
+        int pageSize = Math.max(1, Math.min(size != null ? size : 20, 100));
+        Long lastId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                lastId = Long.valueOf(cursor);
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+        }
 
+        List<Long> crewIds = myCrewCache.get(user.getId(), () -> List.copyOf(crewRepository.findMyCrewIds(user.getId())));
+        int from = 0;
+        if (lastId != null) {
+            // 내림차순 목록에서 커서보다 작은 첫 위치
+            int low = 0;
+            int high = crewIds.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (crewIds.get(mid) >= lastId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            from = low;
+        }
+        List<Long> pageIds = crewIds.subList(from, Math.min(from + pageSize, crewIds.size()));
+        boolean hasNext = from + pageSize < crewIds.size();
+
+        List<CrewListRow> rows = List.of();
+        if (!pageIds.isEmpty()) {
+            rows = crewRepository.searchCrewRows(CrewSearchCondition.builder().crewIds(pageIds).build()).stream()
+                .sorted(Comparator.comparing(CrewListRow::getId).reversed())
+                .collect(Collectors.toList());
+        }
+
+        return CrewListPageResponse.builder()
+            .crews(convertRows(rows))
+            .currentPage(0)
+            .totalPages((crewIds.size() + pageSize - 1) / pageSize)
+            .totalElements((long) crewIds.size())
+            .size(pageSize)
+            .hasNext(hasNext)
+            .hasPrevious(lastId != null)
+            .isFirst(lastId == null)
+            .isLast(!hasNext)
+            .nextCursor(hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null)
+            .build();
+    }
+    
+    // 크루 버전 조회 (조건부 GET: 참여자를 로딩하지 않고 ETag 비교)
+    @Transactional(readOnly = true)
+    public CrewVersion getCrewVersion(Long crewId) {
+        return crewRepository.findVersionById(crewId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "크루를 찾을 수 없습니다."));
+    }
     
     // 크루 상세 조회
     @Transactional(readOnly = true)
     public CrewDetailResponse getCrewDetail(Long crewId) {
-        Crew crew = crewRepository.findById(crewId)
+        // 호스트/참여자/참여자 사용자/태그를 한 번에 로딩 (lazy 로딩 N+1 방지)
+        Crew crew = crewRepository.findDetailById(crewId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "크루를 찾을 수 없습니다."));
         
-        Long currentParticipants = crewRepository.countApprovedParticipants(crew);
+        return CrewDetailResponse.from(crew);
+    }
+    
+    // 프로젝션 행 목록을 응답으로 변환 (태그는 페이지 id 로 한 번에 조회)
+    private List<CrewListResponse> convertRows(List<CrewListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> tagsByCrew = new HashMap<>();
+        List<Long> crewIds = rows.stream().map(CrewListRow::getId).collect(Collectors.toList());
+        for (Object[] row : crewRepository.findTagsByCrewIds(crewIds)) {
+            tagsByCrew.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
         
-        List<CrewDetailResponse.ParticipantInfo> participants = crew.getParticipants().stream()
-            .map(participant -> CrewDetailResponse.ParticipantInfo.builder()
-                .userId(participant.getUser().getId())
-                .userName(participant.getUser().getUsername())
-                .userEmail(participant.getUser().getEmail())
-                .status(participant.getStatus().name())
-                .appliedAt(participant.getCreatedAt())
-                .build())
+        return rows.stream()
+            .map(row -> CrewListResponse.from(row, tagsByCrew.getOrDefault(row.getId(), List.of())))
+            .collect(Collectors.toList());
+    }
+    
+    private List<CrewListResponse> convertCrews(List<Crew> crews) {
+        return crews.stream()
+            .map(this::convertToCrewListResponse)
             .collect(Collectors.toList());
-        
-        return CrewDetailResponse.builder()
-            .id(crew.getId())
-            .title(crew.getTitle())
-            .description(crew.getDescription())
-            .status(crew.getStatus())
-            .hostName(crew.getHost().getUsername())
-            .hostEmail(crew.getHost().getEmail())
-            .maxParticipants(crew.getMaxParticipants())
-            .currentParticipants(currentParticipants.intValue())
-            .routeId(crew.getRouteId())
-            .type(crew.getType())
-            .distanceKm(crew.getDistanceKm())
-            .safetyScore(crew.getSafetyScore())
-            .safetyLevel(crew.getSafetyLevel())
-            .durationMin(crew.getDurationMin())
-            .waypoints(crew.getWaypoints())
-            .tags(crew.getTags())
-            .startLocation(crew.getStartLocation())
-            .pace(crew.getPace())
-            .startTime(crew.getStartTime())
-            .participants(participants)
-            .createdAt(crew.getCreatedAt())
-            .updatedAt(crew.getModifiedAt())
-            .build();
     }
     
     // Crew를 CrewListResponse로 변환
     private CrewListResponse convertToCrewListResponse(Crew crew) {
-        Long currentParticipants = crewRepository.countApprovedParticipants(crew);
-        
         return CrewListResponse.builder()
             .id(crew.getId())
             .title(crew.getTitle())
@@ -321,7 +891,8 @@ public class CrewService {
             .status(crew.getStatus())
             .hostName(crew.getHost().getUsername())
             .maxParticipants(crew.getMaxParticipants())
-            .currentParticipants(currentParticipants.intValue())
+            .currentParticipants(crew.getApprovedCount())
+            .revision(crew.getRevision())
             .routeId(crew.getRouteId())
             .type(crew.getType())
             .distanceKm(crew.getDistanceKm())
@@ -340,30 +911,7 @@ public class CrewService {
     
     // 정렬 설정 생성
     private Sort createSort(CrewSearchRequest request) {
-        String sortType = request.getSortType();
-        String sortDirection = request.getSortDirection();
-        
-        Sort.Direction direction = "ASC".equalsIgnoreCase(sortDirection) ? 
-            Sort.Direction.ASC : Sort.Direction.DESC;
-        
-        if ("popular".equalsIgnoreCase(sortType)) {
-            // 인기순: 참여자 수 기준 (내림차순)
-            return Sort.by(Sort.Direction.DESC, "createdAt"); // 임시로 createdAt 사용
-        } else if ("latest".equalsIgnoreCase(sortType)) {
-            // 최신순: 생성일 기준 (내림차순)
-            return Sort.by(Sort.Direction.DESC, "createdAt");
-        } else if ("distance".equalsIgnoreCase(sortType)) {
-            // 거리순: 거리 기준
-            return Sort.by(direction, "distanceKm");
-        } else if ("pace".equalsIgnoreCase(sortType)) {
-            // 페이스순: 페이스 기준
-            return Sort.by(direction, "pace");
-        } else if ("time".equalsIgnoreCase(sortType)) {
-            // 시작시간순: 시작시간 기준
-            return Sort.by(direction, "startTime");
-        } else {
-            // 기본: 생성일 기준
-            return Sort.by(direction, request.getSortBy());
-        }
+        CrewSortType sortType = CrewSortType.resolve(request.getSortType(), request.getSortBy());
+        return sortType.toSort(sortType.direction(request.getSortType(), request.getSortDirection()));
     }
 }
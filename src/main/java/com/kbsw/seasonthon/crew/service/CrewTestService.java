@@ -14,18 +14,21 @@ import com.kbsw.seasonthon.crew.dto.response.CrewUpdateResponse;
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.util.PaceParser;
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import com.kbsw.seasonthon.route.provider.RouteProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,18 +36,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CrewTestService {
 
-    private final RestTemplate restTemplate;
+    private final RouteProvider routeProvider;
 
     public CrewCreateResponse createCrew(CrewCreateRequest request) {
-        // 라우트 정보 조회
-        Map<String, Object> routeInfo = getRouteInfo(request.getRouteId());
-        
-        // waypoints를 String 리스트로 변환
-        @SuppressWarnings("unchecked")
-        List<List<Double>> waypointsList = (List<List<Double>>) routeInfo.get("waypoints");
-        List<String> waypoints = waypointsList.stream()
-                .map(point -> point.get(0) + "," + point.get(1))
-                .toList();
+        // 라우트 정보 조회 (프로세스 내 호출)
+        RouteResponse route = routeProvider.getRoute(request.getRouteId());
         
         // 임시 크루 ID 생성
         Long crewId = System.currentTimeMillis() % 1000000L;
@@ -55,13 +51,13 @@ public class CrewTestService {
                 .description(request.getDescription())
                 .status(com.kbsw.seasonthon.crew.enums.CrewStatus.OPEN)
                 .maxParticipants(request.getMaxParticipants())
-                .routeId((String) routeInfo.get("routeId"))
-                .type((String) routeInfo.get("type"))
-                .distanceKm((Double) routeInfo.get("distanceKm"))
-                .safetyScore((Integer) routeInfo.get("safetyScore"))
-                .safetyLevel(SafetyLevel.fromScore((Integer) routeInfo.get("safetyScore")))
-                .durationMin((Integer) routeInfo.get("durationMin"))
-                .waypoints(waypoints)
+                .routeId(route.getRouteId())
+                .type(route.getType())
+                .distanceKm(route.getDistanceKm())
+                .safetyScore(route.getSafetyScore())
+                .safetyLevel(route.getSafetyScore() != null ? SafetyLevel.fromScore(route.getSafetyScore()) : null)
+                .durationMin(route.getDurationMin())
+                .waypoints(route.toLatLonStrings())
                 .tags(request.getTags() != null ? request.getTags() : List.of())
                 .startLocation(request.getStartLocation())
                 .pace(request.getPace())
@@ -102,44 +98,16 @@ public class CrewTestService {
                 .build();
     }
 
-    public Map<String, Object> getRouteInfo(String routeId) {
-        try {
-            String url = "http://localhost:8080/api/route-single";
-            Map<String, Object> requestBody = Map.of("routeId", routeId);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(url, requestBody, Map.class);
-            
-            return response;
-        } catch (Exception e) {
-            log.error("라우트 정보 조회 실패: {}", e.getMessage());
-            // 임시 데이터 반환
-            Random random = new Random();
-            int safetyScore = 50 + random.nextInt(50);
-            
-            List<List<Double>> waypoints = Arrays.asList(
-                Arrays.asList(37.5665, 126.9780),
-                Arrays.asList(37.5675, 126.9790),
-                Arrays.asList(37.5670, 126.9760),
-                Arrays.asList(37.5665, 126.9780)
-            );
-            
-            return Map.of(
-                "routeId", routeId,
-                "type", "safe",
-                "distanceKm", 5.1,
-                "safetyScore", safetyScore,
-                "durationMin", 32,
-                "waypoints", waypoints
-            );
-        }
-    }
-
     // 크루 리스트 조회 (검색 및 필터링) - 테스트용
     public CrewListPageResponse searchCrews(CrewSearchRequest request) {
         // 테스트용 더미 데이터 생성
         List<CrewListResponse> dummyCrews = createDummyCrewList();
         
+        // 페이스는 비교할 때마다 다시 파싱하지 않도록 미리 변환
+        Map<CrewListResponse, Integer> paceSeconds = new IdentityHashMap<>();
+        dummyCrews.forEach(crew -> paceSeconds.put(crew, PaceParser.toSecondsPerKm(crew.getPace())));
+        Integer minPaceSeconds = PaceParser.toSecondsPerKm(request.getMinPace());
+        
         // 간단한 필터링 로직 (현재 CrewSearchRequest에 있는 필드들만 사용)
         List<CrewListResponse> filteredCrews = dummyCrews.stream()
             // 검색 필드들 (조회용)
@@ -157,14 +125,14 @@ public class CrewTestService {
             // 실제 필터링 필드들
             .filter(crew -> request.getMaxDistance() == null || 
                     crew.getDistanceKm() <= request.getMaxDistance())
-            .filter(crew -> request.getMinPace() == null || 
-                    (crew.getPace() != null && comparePace(crew.getPace(), request.getMinPace()) >= 0))
+            .filter(crew -> minPaceSeconds == null ||
+                    (paceSeconds.get(crew) != null && paceSeconds.get(crew) <= minPaceSeconds))
             .filter(crew -> request.getStartTimeFrom() == null || 
                     (crew.getStartTime() != null && crew.getStartTime().isAfter(request.getStartTimeFrom())))
             .collect(Collectors.toList());
         
         // 정렬 적용
-        applySorting(filteredCrews, request);
+        applySorting(filteredCrews, request, paceSeconds);
         
         // 페이징 처리
         int start = request.getPage() * request.getSize();
@@ -175,7 +143,7 @@ public class CrewTestService {
             .crews(pagedCrews)
             .currentPage(request.getPage())
             .totalPages((int) Math.ceil((double) filteredCrews.size() / request.getSize()))
-            .totalElements(filteredCrews.size())
+            .totalElements((long) filteredCrews.size())
             .size(request.getSize())
             .hasNext(end < filteredCrews.size())
             .hasPrevious(request.getPage() > 0)
@@ -306,39 +274,14 @@ public class CrewTestService {
         );
     }
     
-    // 페이스 비교 헬퍼 메서드 (분/초 단위로 변환하여 비교)
-    private int comparePace(String pace1, String pace2) {
-        if (pace1 == null || pace2 == null) return 0;
-        
-        try {
-            // "6'30\"/km" 형식을 분.초로 변환
-            double minutes1 = parsePaceToMinutes(pace1);
-            double minutes2 = parsePaceToMinutes(pace2);
-            
-            return Double.compare(minutes1, minutes2);
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-    
-    private double parsePaceToMinutes(String pace) {
-        // "6'30\"/km" -> 6.5분
-        String cleanPace = pace.replaceAll("[^0-9':\"]", "");
-        String[] parts = cleanPace.split("'");
-        
-        if (parts.length == 2) {
-            int minutes = Integer.parseInt(parts[0]);
-            String secondsStr = parts[1].replaceAll("[^0-9]", "");
-            int seconds = secondsStr.isEmpty() ? 0 : Integer.parseInt(secondsStr);
-            
-            return minutes + (seconds / 60.0);
-        }
-        
-        return 0.0;
+    // 페이스 비교 헬퍼 메서드 (km 당 초로 변환된 값 비교, 해석 불가 값은 뒤로)
+    private int comparePace(Integer seconds1, Integer seconds2) {
+        return Comparator.nullsLast(Comparator.<Integer>naturalOrder()).compare(seconds1, seconds2);
     }
     
     // 정렬 적용
-    private void applySorting(List<CrewListResponse> crews, CrewSearchRequest request) {
+    private void applySorting(List<CrewListResponse> crews, CrewSearchRequest request,
+                              Map<CrewListResponse, Integer> paceSeconds) {
         String sortType = request.getSortType();
         String sortDirection = request.getSortDirection();
         
@@ -358,9 +301,9 @@ public class CrewTestService {
         } else if ("pace".equalsIgnoreCase(sortType)) {
             // 페이스순: 페이스 기준
             if ("ASC".equalsIgnoreCase(sortDirection)) {
-                crews.sort((a, b) -> comparePace(a.getPace(), b.getPace()));
+                crews.sort((a, b) -> comparePace(paceSeconds.get(a), paceSeconds.get(b)));
             } else {
-                crews.sort((a, b) -> comparePace(b.getPace(), a.getPace()));
+                crews.sort((a, b) -> comparePace(paceSeconds.get(b), paceSeconds.get(a)));
             }
         } else if ("time".equalsIgnoreCase(sortType)) {
             // 시작시간순: 시작시간 기준
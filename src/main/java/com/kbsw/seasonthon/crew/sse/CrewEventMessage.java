@@ -0,0 +1,46 @@
+package com.kbsw.seasonthon.crew.sse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSE 로 내보내는 크루 알림 한 건
+ * type 은 SSE event 이름으로, 나머지는 JSON data 로 나간다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CrewEventMessage {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Type {
+        CONNECTED("connected"),
+        PARTICIPANT("participant"),       // 참여 신청/승인/거절 (status: APPLIED / APPROVED / REJECTED)
+        CREW_STATUS("crew-status"),       // 모집 상태 변경 (status: OPEN / CLOSED)
+        CREW_UPDATED("crew-updated"),
+        CREW_DELETED("crew-deleted"),
+        RESYNC("resync");                 // 버퍼가 넘쳐 알림을 버렸으니 다시 조회하라는 신호
+
+        private final String eventName;
+    }
+
+    private final Type type;
+    private final Long crewId;
+    private final Long userId;
+    private final String status;
+    private final LocalDateTime occurredAt;
+
+    public static CrewEventMessage participant(Long crewId, Long userId, String status) {
+        return new CrewEventMessage(Type.PARTICIPANT, crewId, userId, status, LocalDateTime.now());
+    }
+
+    public static CrewEventMessage crewStatus(Long crewId, String status) {
+        return new CrewEventMessage(Type.CREW_STATUS, crewId, null, status, LocalDateTime.now());
+    }
+
+    public static CrewEventMessage of(Type type, Long crewId) {
+        return new CrewEventMessage(type, crewId, null, null, LocalDateTime.now());
+    }
+}
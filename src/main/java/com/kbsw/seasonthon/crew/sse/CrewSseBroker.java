@@ -0,0 +1,288 @@
+package com.kbsw.seasonthon.crew.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크루 알림 SSE 구독 관리 (토픽: crew:{crewId}, user:{userId})
+ * - 발행은 구독자별 고정 크기 큐에 넣기만 하고 바로 반환한다. 실제 전송은 소수의 전송 스레드가 구독자 단위로 처리한다.
+ * - 큐가 가득 찬 느린 구독자는 쌓인 알림을 버리고 resync 하나만 받는다. (클라이언트는 상세를 다시 조회)
+ * - 주기적으로 heartbeat 주석을 보내 끊긴 연결을 찾아내고, 전송 하나가 send-timeout 보다 오래 막힌 구독자는 정리한다.
+ *   막힌 emitter 는 잠금을 쥔 채 쓰기 중이므로 complete() 를 부르지 않고 구독만 끊으며, (컨테이너 쓰기 타임아웃으로 풀릴 때까지)
+ *   묶인 전송 스레드 수만큼 전송 스레드를 잠시 늘려 다른 구독자의 전송이 밀리지 않게 한다.
+ */
+@Slf4j
+@Component
+public class CrewSseBroker {
+
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final long sendTimeoutMs;
+    private final int senderThreads;
+    private final int maxSubscribers;
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+    // 막힌 쓰기 때문에 늘려 둔 전송 스레드 수 (최대 senderThreads)
+    private int extraSenders;
+    private final ScheduledExecutorService heartbeat;
+
+    // 누적 지표
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public CrewSseBroker(@Value("${crew.sse.buffer-size:64}") int bufferSize,
+                         @Value("${crew.sse.timeout-ms:1800000}") long emitterTimeoutMs,
+                         @Value("${crew.sse.heartbeat-ms:15000}") long heartbeatMs,
+                         @Value("${crew.sse.send-timeout-ms:10000}") long sendTimeoutMs,
+                         @Value("${crew.sse.max-subscribers:10000}") int maxSubscribers,
+                         @Value("${crew.sse.sender-threads:4}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.senderThreads = senderThreads;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "crew-sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "crew-sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    public static String crewTopic(Long crewId) {
+        return "crew:" + crewId;
+    }
+
+    public static String userTopic(Long userId) {
+        return "user:" + userId;
+    }
+
+    public SseEmitter subscribe(String topic) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 알림 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(topic, emitter, bufferSize);
+        topics.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 한 건을 보내 프록시가 응답 헤더를 바로 흘려보내게 한다
+        enqueue(subscriber, CrewEventMessage.of(CrewEventMessage.Type.CONNECTED, null));
+        return emitter;
+    }
+
+    // 구독자가 없으면 아무것도 하지 않는다 (맵 조회 한 번)
+    public void publish(String topic, CrewEventMessage message) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null) {
+            return;
+        }
+        published.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, message);
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return subscriberCount.get() > 0;
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "subscribers", subscriberCount.get(),
+                "senderThreads", sender.getCorePoolSize(),
+                "topics", topics.size(),
+                "published", published.get(),
+                "delivered", delivered.get(),
+                "dropped", dropped.get(),
+                "evicted", evicted.get());
+    }
+
+    private void enqueue(Subscriber subscriber, CrewEventMessage message) {
+        if (!subscriber.queue.offer(message)) {
+            dropped.addAndGet(subscriber.queue.size());
+            subscriber.queue.clear();
+            subscriber.queue.offer(CrewEventMessage.of(CrewEventMessage.Type.RESYNC, null));
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.closed && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            CrewEventMessage message;
+            while (!subscriber.closed && (message = subscriber.queue.poll()) != null) {
+                send(subscriber, SseEmitter.event()
+                        .name(message.getType().getEventName())
+                        .data(message, MediaType.APPLICATION_JSON));
+                delivered.incrementAndGet();
+            }
+            if (!subscriber.closed && subscriber.heartbeatPending.compareAndSet(true, false)) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊겼거나 이미 종료된 연결
+            remove(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+            // 막혀서 정리된 구독자의 쓰기가 끝났으면 늘려 둔 전송 스레드를 되돌린다
+            if (subscriber.compensated.compareAndSet(true, false)) {
+                resizeSender(-1);
+            }
+        }
+        // 비우는 사이 들어온 알림이 있으면 다시 예약
+        if (!subscriber.queue.isEmpty() || subscriber.heartbeatPending.get()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 쓰기 시작 시각을 남겨 heartbeat 스레드가 막힌 쓰기를 찾을 수 있게 한다
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedAt = System.currentTimeMillis();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    private void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        for (Set<Subscriber> subscribers : topics.values()) {
+            for (Subscriber subscriber : subscribers) {
+                long sendStartedAt = subscriber.sendStartedAt;
+                if (sendStartedAt != 0 && now - sendStartedAt > sendTimeoutMs) {
+                    evictStuck(subscriber);
+                    continue;
+                }
+                subscriber.heartbeatPending.set(true);
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 쓰기가 막힌 구독자 정리 (수신하지 않는 클라이언트)
+     * emitter 잠금을 쥔 쓰기와 다투지 않도록 complete() 는 부르지 않는다. 쓰기는 컨테이너 타임아웃이나 연결 종료로 끝나며,
+     * 그동안 묶인 전송 스레드 대신 쓸 스레드를 하나 늘려 둔다.
+     */
+    private void evictStuck(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        evicted.incrementAndGet();
+        remove(subscriber);
+        if (resizeSender(1)) {
+            subscriber.compensated.set(true);
+            // 그 사이 쓰기가 이미 끝났다면 바로 되돌린다
+            if (subscriber.sendStartedAt == 0 && subscriber.compensated.compareAndSet(true, false)) {
+                resizeSender(-1);
+            }
+        }
+    }
+
+    // 전송 스레드 수 조정 (늘릴 때는 최대 senderThreads 개까지만)
+    private synchronized boolean resizeSender(int delta) {
+        if (delta > 0 && extraSenders >= senderThreads) {
+            return false;
+        }
+        extraSenders += delta;
+        int size = senderThreads + extraSenders;
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+        return true;
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return;
+            }
+            subscriber.closed = true;
+        }
+        subscriber.queue.clear();
+        subscriberCount.decrementAndGet();
+        topics.computeIfPresent(subscriber.topic, (topic, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        // 쓰기가 진행 중인 emitter 는 잠금에서 기다리지 않도록 건너뛴다 (연결 종료 시 함께 정리됨)
+        topics.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.sendStartedAt == 0) {
+                subscriber.emitter.complete();
+            }
+        }));
+        topics.clear();
+        sender.shutdown();
+    }
+
+    private static class Subscriber {
+        private final String topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<CrewEventMessage> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+        private final AtomicBoolean compensated = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendStartedAt;    // 진행 중인 쓰기 시작 시각 (없으면 0)
+
+        private Subscriber(String topic, SseEmitter emitter, int bufferSize) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
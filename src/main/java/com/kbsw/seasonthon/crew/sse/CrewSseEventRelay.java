@@ -0,0 +1,86 @@
+package com.kbsw.seasonthon.crew.sse;
+
+import com.kbsw.seasonthon.crew.event.CrewChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewParticipantChangedEvent;
+import com.kbsw.seasonthon.crew.event.CrewSafetyRescoredEvent;
+import com.kbsw.seasonthon.crew.event.CrewStatusChangedEvent;
+import com.kbsw.seasonthon.crew.repository.CrewParticipantRepository;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 커밋된 크루 변경을 SSE 토픽으로 전달
+ * - 크루 토픽: 해당 크루의 모든 변경
+ * - 사용자 토픽: 내 신청의 상태 변경(신청자), 내 크루의 신청/승인/거절(호스트), 참여 중인 크루의 모집 상태 변경
+ */
+@Component
+@RequiredArgsConstructor
+public class CrewSseEventRelay {
+
+    private final CrewSseBroker broker;
+    private final CrewRepository crewRepository;
+    private final CrewParticipantRepository crewParticipantRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantChanged(CrewParticipantChangedEvent event) {
+        CrewEventMessage message = CrewEventMessage.participant(
+                event.getCrewId(), event.getUserId(), event.getStatus().name());
+        broker.publish(CrewSseBroker.crewTopic(event.getCrewId()), message);
+        broker.publish(CrewSseBroker.userTopic(event.getUserId()), message);
+        if (event.getHostId() != null && !event.getHostId().equals(event.getUserId())) {
+            broker.publish(CrewSseBroker.userTopic(event.getHostId()), message);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(CrewStatusChangedEvent event) {
+        if (!broker.hasSubscribers() || event.getCrewIds().isEmpty()) {
+            return;
+        }
+        String status = event.getStatus().name();
+        for (Long crewId : event.getCrewIds()) {
+            broker.publish(CrewSseBroker.crewTopic(crewId), CrewEventMessage.crewStatus(crewId, status));
+        }
+
+        // 참여자와 호스트의 사용자 토픽으로도 알린다 (크루당 한 번씩)
+        Set<String> sent = new HashSet<>();
+        List<Object[]> recipients = new ArrayList<>(crewParticipantRepository.findUserIdsByCrewIds(event.getCrewIds()));
+        recipients.addAll(crewRepository.findHostIdsByCrewIds(event.getCrewIds()));
+        for (Object[] row : recipients) {
+            Long crewId = (Long) row[0];
+            Long userId = (Long) row[1];
+            if (sent.add(crewId + ":" + userId)) {
+                broker.publish(CrewSseBroker.userTopic(userId), CrewEventMessage.crewStatus(crewId, status));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCrewChanged(CrewChangedEvent event) {
+        String topic = CrewSseBroker.crewTopic(event.getCrewId());
+        // 삭제 알림을 받은 클라이언트가 연결을 닫는다 (남은 연결은 heartbeat/타임아웃으로 정리)
+        if (event.getType() == CrewChangedEvent.Type.UPDATED) {
+            broker.publish(topic, CrewEventMessage.of(CrewEventMessage.Type.CREW_UPDATED, event.getCrewId()));
+        } else if (event.getType() == CrewChangedEvent.Type.DELETED) {
+            broker.publish(topic, CrewEventMessage.of(CrewEventMessage.Type.CREW_DELETED, event.getCrewId()));
+        }
+    }
+
+    // 안전 점수 재계산으로 바뀐 크루를 보고 있는 클라이언트에 변경 알림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSafetyRescored(CrewSafetyRescoredEvent event) {
+        if (!broker.hasSubscribers()) {
+            return;
+        }
+        for (Long crewId : event.getCrewIds()) {
+            broker.publish(CrewSseBroker.crewTopic(crewId), CrewEventMessage.of(CrewEventMessage.Type.CREW_UPDATED, crewId));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kbsw.seasonthon.crew.util;
+
+/**
+ * 위경도 계산 유틸
+ * 좌표 배열은 [lat0, lon0, lat1, lon1, ...] 형태로 다룬다.
+ */
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private GeoUtils() {
+    }
+
+    // 두 지점 사이의 대권 거리 (km)
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 반경(km)에 해당하는 위도/경도 차이
+    public static double kmToLatDegrees(double km) {
+        return Math.toDegrees(km / EARTH_RADIUS_KM);
+    }
+
+    public static double kmToLonDegrees(double km, double atLat) {
+        double cos = Math.max(0.01, Math.cos(Math.toRadians(atLat)));
+        return Math.toDegrees(km / EARTH_RADIUS_KM) / cos;
+    }
+}
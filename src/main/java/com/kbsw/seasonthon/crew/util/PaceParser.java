@@ -0,0 +1,71 @@
+package com.kbsw.seasonthon.crew.util;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 페이스 문자열 -> km 당 초 변환
+ * 지원 형식: 5'30"/km, 5'30", 5′30″, 5:30, 5:30/km, 5분 30초, 5분, 5.5 (분), 330 (초), 8'00"/mi (마일 -> km 환산)
+ */
+public final class PaceParser {
+
+    private static final double KM_PER_MILE = 1.609344;
+    private static final int MIN_SECONDS = 60;         // 1'00"/km
+    private static final int MAX_SECONDS = 60 * 60;    // 60'00"/km
+
+    private static final Pattern MINUTES_SECONDS = Pattern.compile("^(\\d{1,2})\\s*(?:'|:|분)\\s*(?:(\\d{1,2})\\s*(?:\"|''|초)?)?$");
+    private static final Pattern NUMBER = Pattern.compile("^(\\d+(?:\\.\\d+)?)$");
+
+    private PaceParser() {
+    }
+
+    // 해석할 수 없는 값이면 null
+    public static Integer toSecondsPerKm(String pace) {
+        if (pace == null || pace.isBlank()) {
+            return null;
+        }
+        String normalized = pace.trim().toLowerCase(Locale.ROOT)
+                .replace('′', '\'').replace('’', '\'')
+                .replace('″', '"').replace('”', '"');
+
+        boolean perMile = false;
+        if (normalized.endsWith("/mi") || normalized.endsWith("/mile")) {
+            perMile = true;
+            normalized = normalized.substring(0, normalized.lastIndexOf('/'));
+        } else if (normalized.endsWith("/km")) {
+            normalized = normalized.substring(0, normalized.length() - 3);
+        }
+        normalized = normalized.replace("min", "").trim();
+
+        Integer seconds = parseSeconds(normalized);
+        if (seconds == null) {
+            return null;
+        }
+        if (perMile) {
+            seconds = (int) Math.round(seconds / KM_PER_MILE);
+        }
+        return seconds >= MIN_SECONDS && seconds <= MAX_SECONDS ? seconds : null;
+    }
+
+    // 6'30"/km 형식으로 표시
+    public static String format(int secondsPerKm) {
+        return String.format("%d'%02d\"/km", secondsPerKm / 60, secondsPerKm % 60);
+    }
+
+    private static Integer parseSeconds(String value) {
+        Matcher matcher = MINUTES_SECONDS.matcher(value);
+        if (matcher.matches()) {
+            int minutes = Integer.parseInt(matcher.group(1));
+            int seconds = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+            return seconds < 60 ? minutes * 60 + seconds : null;
+        }
+        matcher = NUMBER.matcher(value);
+        if (matcher.matches()) {
+            double number = Double.parseDouble(matcher.group(1));
+            // 작은 값은 분 단위(5.5 = 5분 30초), 큰 값은 초 단위로 본다
+            return number <= 30 ? (int) Math.round(number * 60) : (int) Math.round(number);
+        }
+        return null;
+    }
+}
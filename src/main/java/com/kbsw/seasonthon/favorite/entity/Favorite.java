@@ -1,6 +1,7 @@
 package com.kbsw.seasonthon.favorite.entity;
 
 import com.kbsw.seasonthon.global.base.domain.BaseEntity;
+import com.kbsw.seasonthon.global.util.PolylineCodec;
 import com.kbsw.seasonthon.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -26,11 +27,9 @@ public class Favorite extends BaseEntity {
     @Column(nullable = false, length = 50)
     private String name;
 
-    @ElementCollection
-    @CollectionTable(name = "favorite_waypoints", joinColumns = @JoinColumn(name = "favorite_id"))
-    @Column(name = "waypoint")
-    @Builder.Default
-    private List<String> waypoints = List.of();
+    // 경유지 좌표 (encoded polyline 한 컬럼, PolylineCodec 참고)
+    @Column(name = "waypoints_polyline", columnDefinition = "TEXT")
+    private String waypointsPolyline;
 
     @Column(columnDefinition = "TEXT")
     private String savedPolyline;
@@ -46,7 +45,12 @@ public class Favorite extends BaseEntity {
     }
 
     public void updateWaypoints(List<String> waypoints) {
-        this.waypoints = waypoints;
+        this.waypointsPolyline = PolylineCodec.encodeLatLon(waypoints);
+    }
+
+    // 기존 API 형식 ("lat,lon" 문자열 목록)
+    public List<String> getWaypoints() {
+        return PolylineCodec.toLatLonStrings(PolylineCodec.decode(waypointsPolyline));
     }
 
     public void updateSavedPolyline(String savedPolyline) {
@@ -60,4 +64,12 @@ public class Favorite extends BaseEntity {
     public void updateDurationS(Integer durationS) {
         this.durationS = durationS;
     }
+
+    // 빌더에서도 기존처럼 "lat,lon" 목록으로 경유지를 받는다
+    public static class FavoriteBuilder {
+        public FavoriteBuilder waypoints(List<String> waypoints) {
+            this.waypointsPolyline = PolylineCodec.encodeLatLon(waypoints);
+            return this;
+        }
+    }
 }
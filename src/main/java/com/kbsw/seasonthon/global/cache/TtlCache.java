@@ -0,0 +1,175 @@
+package com.kbsw.seasonthon.global.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 + TTL 인메모리 캐시 (LRU 제거)
+ * 무효화 이전에 시작된 로딩 결과는 뒤늦게 저장되지 않는다.
+ * invalidateAll / invalidateIf 는 세대 번호를 올리고, invalidate(key) 는 로딩 중인 키에 무효화 시점(tombstone)을 남긴다.
+ * 로딩은 락 밖에서 수행하므로 같은 키를 동시에 요청하면 중복 로딩될 수 있다.
+ */
+public class TtlCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long generation;
+    // 키 단위 무효화 순번과, 로딩 중인 키의 로딩 수 / 마지막 무효화 순번
+    private long version;
+    private final Map<K, Integer> loading = new HashMap<>();
+    private final Map<K, Long> tombstones = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public record Stats(String name, int size, int maxSize, long ttlSeconds,
+                        long hits, long misses, long evictions, long invalidations) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+    public TtlCache(String name, Duration ttl, int maxSize) {
+        this.name = name;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long loadGeneration;
+        long loadVersion;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && isValid(entry, System.nanoTime())) {
+                hits.incrementAndGet();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+            loadVersion = version;
+            loading.merge(key, 1, Integer::sum);
+        }
+        misses.incrementAndGet();
+
+        V value = null;
+        try {
+            value = loader.get();
+        } finally {
+            finishLoad(key, value, loadGeneration, loadVersion);
+        }
+        return value;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && isValid(entry, System.nanoTime())) {
+            hits.incrementAndGet();
+            return entry.value();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public synchronized void put(K key, V value) {
+        store(key, value, generation, version);
+    }
+
+    public synchronized void invalidate(K key) {
+        version++;
+        if (loading.containsKey(key)) {
+            tombstones.put(key, version);
+        }
+        if (entries.remove(key) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    // 조건에 맞는 항목만 무효화 (영향받는 범위만 지울 때 사용)
+    // 로딩 중인 값에는 조건을 적용할 수 없으므로 진행 중인 로딩 결과는 모두 저장하지 않는다
+    public synchronized int invalidateIf(BiPredicate<K, V> predicate) {
+        generation++;
+        int removed = 0;
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry<V>> e = it.next();
+            if (predicate.test(e.getKey(), e.getValue().value())) {
+                it.remove();
+                removed++;
+            }
+        }
+        invalidations.addAndGet(removed);
+        return removed;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(name, entries.size(), maxSize, ttlNanos / 1_000_000_000L,
+                hits.get(), misses.get(), evictions.get(), invalidations.get());
+    }
+
+    private synchronized void finishLoad(K key, V value, long loadGeneration, long loadVersion) {
+        if (value != null) {
+            store(key, value, loadGeneration, loadVersion);
+        }
+        if (loading.merge(key, -1, Integer::sum) == 0) {
+            loading.remove(key);
+            tombstones.remove(key);
+        }
+    }
+
+    private void store(K key, V value, long loadGeneration, long loadVersion) {
+        // 로딩 중에 전체/조건부 무효화나 이 키의 무효화가 일어났다면 저장하지 않음
+        if (loadGeneration != generation || tombstones.getOrDefault(key, Long.MIN_VALUE) > loadVersion) {
+            return;
+        }
+        long now = System.nanoTime();
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        if (entries.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 넘치면 가장 오래 사용되지 않은 항목부터 제거
+    private void evict(long now) {
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            if (!isValid(it.next().getValue(), now)) {
+                it.remove();
+                evictions.incrementAndGet();
+            }
+        }
+        it = entries.entrySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private boolean isValid(Entry<V> entry, long now) {
+        return now - entry.expiresAt() < 0;
+    }
+}
@@ -0,0 +1,36 @@
+package com.kbsw.seasonthon.global.config;
+
+import com.kbsw.seasonthon.security.jwt.enums.Role;
+import com.kbsw.seasonthon.security.oauth2.principal.PrincipalDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 관리자 API(/api/admin/**) 접근 확인
+ * 관리자 컨트롤러마다 권한 검사를 두지 않고 여기서 한 번에 막는다 (보안 프로필과 무관하게 적용).
+ */
+public class AdminAccessInterceptor implements HandlerInterceptor {
+
+    public static final String ADMIN_PATHS = "/api/admin/**";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof PrincipalDetails principal)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        if (principal.getUser().getRole() != Role.ADMIN) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자만 접근할 수 있습니다.");
+        }
+        return true;
+    }
+}
@@ -5,6 +5,7 @@ import com.kbsw.seasonthon.crew.domain.CrewParticipant;
 import com.kbsw.seasonthon.crew.enums.CrewStatus;
 import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
 import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.job.ApprovedCountRecountJob;
 import com.kbsw.seasonthon.crew.repository.CrewParticipantRepository;
 import com.kbsw.seasonthon.crew.repository.CrewRepository;
 import com.kbsw.seasonthon.security.jwt.enums.Role;
@@ -31,6 +32,7 @@ public class DataInitializer implements CommandLineRunner {
     private final CrewRepository crewRepository;
     private final CrewParticipantRepository crewParticipantRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApprovedCountRecountJob approvedCountRecountJob;
 
     @Override
     public void run(String... args) throws Exception {
@@ -52,6 +54,9 @@ public class DataInitializer implements CommandLineRunner {
         
         // 3. 크루 참여자 관계 생성
         createCrewParticipants(testUsers, testCrews);
+
+        // 4. 시드 참여자 기준으로 승인 인원 카운터 맞추기
+        approvedCountRecountJob.recountAll();
     }
 
     private List<User> createTestUsers() {
@@ -2,6 +2,7 @@ package com.kbsw.seasonthon.global.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -23,4 +24,11 @@ public class WebConfig implements WebMvcConfigurer {
 				.allowCredentials(true); // 쿠키/인증 포함 시 필요
 	}
 
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// 관리자 API 권한 확인
+		registry.addInterceptor(new AdminAccessInterceptor())
+				.addPathPatterns(AdminAccessInterceptor.ADMIN_PATHS);
+	}
+
 }
\ No newline at end of file
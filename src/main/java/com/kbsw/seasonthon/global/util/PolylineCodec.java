@@ -0,0 +1,134 @@
+package com.kbsw.seasonthon.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경유지 좌표 인코딩 (Google encoded polyline, 소수점 6자리 정밀도)
+ * 좌표 배열은 [lat0, lon0, lat1, lon1, ...] 형태로 다루며, 이전 점과의 차이를 가변 길이 문자로 기록한다.
+ * 좌표는 1e-6 도 단위로 반올림해 저장하므로 소수점 6자리를 넘는 값은 그 정밀도로만 복원된다.
+ * 경유지가 없으면 null 이 아닌 빈 문자열을 저장해 "비움"과 "아직 값 없음(null)"을 구분한다.
+ */
+public final class PolylineCodec {
+
+    private static final double SCALE = 1e6;
+    private static final double[] EMPTY = new double[0];
+
+    private PolylineCodec() {
+    }
+
+    // 좌표 배열 -> polyline 문자열 (null 이면 null, 좌표가 없으면 빈 문자열)
+    public static String encode(double[] coordinates) {
+        if (coordinates == null) {
+            return null;
+        }
+        if (coordinates.length < 2) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(coordinates.length * 4);
+        long prevLat = 0;
+        long prevLon = 0;
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            long lat = Math.round(coordinates[i] * SCALE);
+            long lon = Math.round(coordinates[i + 1] * SCALE);
+            writeValue(sb, lat - prevLat);
+            writeValue(sb, lon - prevLon);
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return sb.toString();
+    }
+
+    // polyline 문자열 -> 좌표 배열 (중간에 잘린 값은 버림)
+    public static double[] decode(String polyline) {
+        if (polyline == null || polyline.isEmpty()) {
+            return EMPTY;
+        }
+        // 한 값은 최소 1글자이므로 길이만큼이면 충분하다
+        double[] coordinates = new double[polyline.length() & ~1];
+        int length = 0;
+        long lat = 0;
+        long lon = 0;
+        long pending = 0;       // 위도 차이 (경도 차이를 읽을 때까지 보관)
+        boolean hasPending = false;
+        long result = 0;
+        int shift = 0;
+        for (int i = 0, n = polyline.length(); i < n; i++) {
+            int b = polyline.charAt(i) - 63;
+            result |= (long) (b & 0x1f) << shift;
+            shift += 5;
+            if (b >= 0x20) {
+                continue;
+            }
+            long value = (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+            result = 0;
+            shift = 0;
+            if (!hasPending) {
+                pending = value;
+                hasPending = true;
+                continue;
+            }
+            lat += pending;
+            lon += value;
+            hasPending = false;
+            coordinates[length++] = lat / SCALE;
+            coordinates[length++] = lon / SCALE;
+        }
+        return length == coordinates.length ? coordinates : Arrays.copyOf(coordinates, length);
+    }
+
+    // 기존 "lat,lon" 문자열 목록 -> polyline
+    public static String encodeLatLon(List<String> points) {
+        return points == null ? null : encode(parseLatLon(points));
+    }
+
+    // polyline -> 기존 API 형식의 "lat,lon" 문자열 목록
+    public static List<String> toLatLonStrings(double[] coordinates) {
+        List<String> points = new ArrayList<>(coordinates.length / 2);
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            points.add(coordinates[i] + "," + coordinates[i + 1]);
+        }
+        return points;
+    }
+
+    // "lat,lon" 문자열 목록 -> 좌표 배열 (형식이 잘못된 항목이 있으면 IllegalArgumentException, 응답은 400)
+    public static double[] parseLatLon(List<String> points) {
+        double[] coordinates = new double[points.size() * 2];
+        int length = 0;
+        for (String point : points) {
+            int comma = point == null ? -1 : point.indexOf(',');
+            if (comma < 0) {
+                throw invalidPoint(point);
+            }
+            double lat;
+            double lon;
+            try {
+                lat = Double.parseDouble(point.substring(0, comma).trim());
+                lon = Double.parseDouble(point.substring(comma + 1).trim());
+            } catch (NumberFormatException e) {
+                throw invalidPoint(point);
+            }
+            if (!(lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180)) {
+                throw invalidPoint(point);
+            }
+            coordinates[length++] = lat;
+            coordinates[length++] = lon;
+        }
+        return coordinates;
+    }
+
+    private static IllegalArgumentException invalidPoint(String point) {
+        return new IllegalArgumentException("경유지 좌표 형식이 올바르지 않습니다 (\"위도,경도\"): " + point);
+    }
+
+    // 부호 있는 값을 zigzag 변환 후 5비트 단위로 기록
+    private static void writeValue(StringBuilder sb, long value) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
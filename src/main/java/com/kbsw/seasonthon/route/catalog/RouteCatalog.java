@@ -0,0 +1,294 @@
+package com.kbsw.seasonthon.route.catalog;
+
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 읽기 전용 라우트 카탈로그 (자주 쓰는 라우트를 파일 하나에 담아 메모리 매핑으로 조회)
+ * routeId 로 정렬된 색인을 이진 탐색하고, 경유지는 매핑된 좌표 블록을 그대로 읽는 뷰로 내보낸다.
+ *
+ * 파일 형식 (little endian, 4바이트 정렬):
+ * header    magic "SRC1", version, routeCount, indexOffset, stringOffset, blockOffset
+ * index     routeCount * (idOffset, idLength, blockOffset) - routeId UTF-8 바이트 순 정렬
+ * strings   routeId/type UTF-8 바이트
+ * blocks    typeOffset, typeLength, distanceMeters(float), durationMin, safetyScore(0 ~ 100), pointCount,
+ *           pointCount * (latE6, lonE6)
+ *
+ * 열 때 헤더, 색인, 블록의 위치와 크기를 모두 파일 크기와 대조하므로, 잘리거나 깨진 파일은 open 에서 거부된다.
+ */
+public final class RouteCatalog {
+
+    static final int MAGIC = 0x31435253; // "SRC1"
+    static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 6 * Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = 3 * Integer.BYTES;
+    private static final int BLOCK_HEADER_BYTES = 6 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int routeCount;
+    private final int indexOffset;
+    private final int stringOffset;
+
+    private RouteCatalog(ByteBuffer mapped) {
+        this.buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("라우트 카탈로그 파일 형식이 아닙니다.");
+        }
+        this.routeCount = buffer.getInt(8);
+        this.indexOffset = buffer.getInt(12);
+        this.stringOffset = buffer.getInt(16);
+        validate(buffer.getInt(20));
+    }
+
+    // 모든 위치/크기가 파일 안에 있는지, 색인이 정렬되어 있는지 확인 (요청 처리 중 범위 오류가 나지 않도록)
+    private void validate(int blockOffset) {
+        long capacity = buffer.capacity();
+        if (routeCount < 0 || indexOffset != HEADER_BYTES
+                || stringOffset != indexOffset + (long) routeCount * INDEX_ENTRY_BYTES
+                || blockOffset < stringOffset || blockOffset > capacity) {
+            throw corrupted("헤더");
+        }
+        long stringBytes = blockOffset - stringOffset;
+        for (int i = 0; i < routeCount; i++) {
+            int entry = indexOffset + i * INDEX_ENTRY_BYTES;
+            int idOffset = buffer.getInt(entry);
+            int idLength = buffer.getInt(entry + 4);
+            int block = buffer.getInt(entry + 8);
+            if (!inRange(idOffset, idLength, stringBytes)) {
+                throw corrupted("routeId 위치 (" + i + ")");
+            }
+            if (i > 0) {
+                int previous = entry - INDEX_ENTRY_BYTES;
+                if (compare(stringOffset + idOffset, idLength, stringOffset + buffer.getInt(previous), buffer.getInt(previous + 4)) <= 0) {
+                    throw corrupted("색인 정렬 (" + i + ")");
+                }
+            }
+            if (block < blockOffset || (block & 3) != 0 || block > capacity - BLOCK_HEADER_BYTES) {
+                throw corrupted("블록 위치 (" + i + ")");
+            }
+            int pointCount = buffer.getInt(block + 20);
+            if (pointCount < 0 || block + BLOCK_HEADER_BYTES + (long) pointCount * 2 * Integer.BYTES > capacity) {
+                throw corrupted("좌표 블록 크기 (" + i + ")");
+            }
+            int safetyScore = buffer.getInt(block + 16);
+            if (!inRange(buffer.getInt(block), buffer.getInt(block + 4), stringBytes) || safetyScore < 0 || safetyScore > 100) {
+                throw corrupted("블록 내용 (" + i + ")");
+            }
+        }
+    }
+
+    private static boolean inRange(int offset, int length, long limit) {
+        return offset >= 0 && length >= 0 && (long) offset + length <= limit;
+    }
+
+    private static IllegalArgumentException corrupted(String part) {
+        return new IllegalArgumentException("라우트 카탈로그 파일이 손상되었습니다: " + part);
+    }
+
+    public static RouteCatalog open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new RouteCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return routeCount;
+    }
+
+    // routeId 의 라우트 (없으면 null)
+    public RouteResponse find(String routeId) {
+        if (routeId == null) {
+            return null;
+        }
+        int entry = indexOf(routeId.getBytes(StandardCharsets.UTF_8));
+        if (entry < 0) {
+            return null;
+        }
+        int block = buffer.getInt(indexOffset + entry * INDEX_ENTRY_BYTES + 8);
+        return RouteResponse.builder()
+                .routeId(routeId)
+                .type(string(buffer.getInt(block), buffer.getInt(block + 4)))
+                .distanceKm(Math.round(buffer.getFloat(block + 8) / 10) / 100.0)
+                .durationMin(buffer.getInt(block + 12))
+                .safetyScore(buffer.getInt(block + 16))
+                .waypoints(new Waypoints(buffer, block + BLOCK_HEADER_BYTES, buffer.getInt(block + 20)))
+                .build();
+    }
+
+    private int indexOf(byte[] key) {
+        int low = 0;
+        int high = routeCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = indexOffset + mid * INDEX_ENTRY_BYTES;
+            int cmp = compare(stringOffset + buffer.getInt(entry), buffer.getInt(entry + 4), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 파일의 바이트열과 key 를 부호 없는 바이트 순으로 비교
+    private int compare(int offset, int length, byte[] key) {
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(offset + i) & 0xFF, key[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    // 파일 안의 두 바이트열 비교 (색인 정렬 확인용)
+    private int compare(int offset, int length, int otherOffset, int otherLength) {
+        int common = Math.min(length, otherLength);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(offset + i) & 0xFF, buffer.get(otherOffset + i) & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, otherLength);
+    }
+
+    private String string(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(stringOffset + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 카탈로그 파일 쓰기
+     * 임시 파일에 쓴 뒤 원자적으로 교체하므로, 실행 중인 앱이 매핑한 기존 파일은 끝까지 온전하게 남는다.
+     */
+    static void write(Path path, List<Entry> entries) throws IOException {
+        Entry[] sorted = entries.toArray(Entry[]::new);
+        byte[][] ids = new byte[sorted.length][];
+        Arrays.sort(sorted, Comparator.comparing(entry -> entry.routeId().getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned));
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].routeId().getBytes(StandardCharsets.UTF_8);
+            if (i > 0 && Arrays.equals(ids[i - 1], ids[i])) {
+                throw new IllegalArgumentException("routeId 가 중복되었습니다: " + sorted[i].routeId());
+            }
+        }
+
+        // 문자열 영역 (routeId, type)
+        byte[][] types = new byte[sorted.length][];
+        int[] idOffsets = new int[sorted.length];
+        int[] typeOffsets = new int[sorted.length];
+        int stringBytes = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            types[i] = sorted[i].type().getBytes(StandardCharsets.UTF_8);
+            idOffsets[i] = stringBytes;
+            stringBytes += ids[i].length;
+            typeOffsets[i] = stringBytes;
+            stringBytes += types[i].length;
+        }
+        int indexOffset = HEADER_BYTES;
+        int stringOffset = indexOffset + sorted.length * INDEX_ENTRY_BYTES;
+        int blockOffset = align(stringOffset + stringBytes);
+
+        long total = blockOffset;
+        int[] blockOffsets = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            blockOffsets[i] = (int) total;
+            total += BLOCK_HEADER_BYTES + (long) sorted[i].latE6().length * 2 * Integer.BYTES;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("라우트 카탈로그는 2GB 를 넘을 수 없습니다.");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) total).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(sorted.length).putInt(indexOffset).putInt(stringOffset).putInt(blockOffset);
+        for (int i = 0; i < sorted.length; i++) {
+            out.putInt(idOffsets[i]).putInt(ids[i].length).putInt(blockOffsets[i]);
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            out.put(ids[i]).put(types[i]);
+        }
+        out.position(blockOffset);
+        for (int i = 0; i < sorted.length; i++) {
+            Entry entry = sorted[i];
+            out.putInt(typeOffsets[i]).putInt(types[i].length)
+                    .putFloat(entry.distanceMeters()).putInt(entry.durationMin())
+                    .putInt(entry.safetyScore())
+                    .putInt(entry.latE6().length);
+            for (int p = 0; p < entry.latE6().length; p++) {
+                out.putInt(entry.latE6()[p]).putInt(entry.lonE6()[p]);
+            }
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp)) {
+            stream.write(out.array());
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int align(int offset) {
+        return (offset + 3) & ~3;
+    }
+
+    record Entry(String routeId, String type, float distanceMeters, int durationMin, int safetyScore,
+                 int[] latE6, int[] lonE6) {
+
+        Entry {
+            if (safetyScore < 0 || safetyScore > 100) {
+                throw new IllegalArgumentException("safetyScore 는 0 ~ 100 이어야 합니다: " + routeId);
+            }
+            if (latE6.length != lonE6.length) {
+                throw new IllegalArgumentException("좌표 배열 길이가 맞지 않습니다: " + routeId);
+            }
+        }
+    }
+
+    // 매핑된 좌표 블록을 그대로 읽는 [[lat, lon], ...] 뷰 (복사하지 않는다)
+    private static final class Waypoints extends AbstractList<List<Double>> implements RandomAccess {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int size;
+
+        private Waypoints(ByteBuffer buffer, int offset, int size) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public List<Double> get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int position = offset + index * 2 * Integer.BYTES;
+            return List.of(buffer.getInt(position) / 1e6, buffer.getInt(position + Integer.BYTES) / 1e6);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kbsw.seasonthon.route.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kbsw.seasonthon.route.engine.RoadGraph;
+import com.kbsw.seasonthon.route.safety.SafetyRaster;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GeoJSON 으로 라우트 카탈로그 파일(SRC1)을 만드는 오프라인 도구 (./gradlew buildRouteCatalog)
+ *
+ * 입력: FeatureCollection, geometry 는 LineString 또는 MultiLineString ([lon, lat] 순서)
+ * properties: routeId(필수), type(기본 "safe"), distanceKm, durationMin, safetyScore (없으면 계산)
+ * 거리는 좌표로, 소요 시간은 6분/km 로 계산한다. 안전 점수는 속성에 없으면 안전 점수 격자로 계산하며, 둘 다 없으면 실패한다.
+ *
+ * 사용: java ... RouteCatalogBuilder routes.geojson routes.src [safety.ssr]
+ */
+public final class RouteCatalogBuilder {
+
+    private static final double DEFAULT_PACE_MIN_PER_KM = 6.0;
+
+    private RouteCatalogBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("usage: RouteCatalogBuilder <routes.geojson> <routes.src> [safety.ssr]");
+            System.exit(1);
+        }
+        SafetyRaster raster = args.length == 3 ? SafetyRaster.open(Path.of(args[2])) : null;
+        List<RouteCatalog.Entry> entries = read(new ObjectMapper().readTree(Path.of(args[0]).toFile()), raster);
+        RouteCatalog.write(Path.of(args[1]), entries);
+        System.out.printf("routes=%d -> %s%n", entries.size(), args[1]);
+    }
+
+    static List<RouteCatalog.Entry> read(JsonNode collection, SafetyRaster raster) {
+        List<RouteCatalog.Entry> entries = new ArrayList<>();
+        for (JsonNode feature : collection.path("features")) {
+            JsonNode properties = feature.path("properties");
+            String routeId = properties.path("routeId").asText(null);
+            if (routeId == null || routeId.isBlank()) {
+                throw new IllegalArgumentException("routeId 가 없는 feature 가 있습니다.");
+            }
+
+            double[] coordinates = coordinates(feature.path("geometry"));
+            int points = coordinates.length / 2;
+            if (points == 0) {
+                throw new IllegalArgumentException("좌표가 없는 라우트입니다: " + routeId);
+            }
+            int[] latE6 = new int[points];
+            int[] lonE6 = new int[points];
+            double meters = 0;
+            for (int i = 0; i < points; i++) {
+                latE6[i] = (int) Math.round(coordinates[2 * i] * 1e6);
+                lonE6[i] = (int) Math.round(coordinates[2 * i + 1] * 1e6);
+                if (i > 0) {
+                    meters += RoadGraph.distanceMeters(coordinates[2 * i - 2], coordinates[2 * i - 1], coordinates[2 * i], coordinates[2 * i + 1]);
+                }
+            }
+
+            if (properties.hasNonNull("distanceKm")) {
+                meters = properties.get("distanceKm").asDouble() * 1000;
+            }
+            int durationMin = properties.hasNonNull("durationMin")
+                    ? properties.get("durationMin").asInt()
+                    : (int) Math.round(meters / 1000 * DEFAULT_PACE_MIN_PER_KM);
+            // 크루는 안전 점수가 필수이므로 속성이나 안전 점수 격자 중 하나로 반드시 정한다
+            int safetyScore;
+            if (properties.hasNonNull("safetyScore")) {
+                safetyScore = properties.get("safetyScore").asInt();
+            } else if (raster != null) {
+                safetyScore = raster.score(coordinates);
+            } else {
+                throw new IllegalArgumentException("safetyScore 가 없습니다 (properties.safetyScore 또는 안전 점수 격자 필요): " + routeId);
+            }
+
+            entries.add(new RouteCatalog.Entry(routeId, properties.path("type").asText("safe"),
+                    (float) meters, durationMin, safetyScore, latE6, lonE6));
+        }
+        return entries;
+    }
+
+    // geometry -> [lat0, lon0, lat1, lon1, ...] (MultiLineString 은 순서대로 이어 붙인다)
+    private static double[] coordinates(JsonNode geometry) {
+        String type = geometry.path("type").asText();
+        List<JsonNode> lines = new ArrayList<>();
+        if (type.equals("LineString")) {
+            lines.add(geometry.path("coordinates"));
+        } else if (type.equals("MultiLineString")) {
+            geometry.path("coordinates").forEach(lines::add);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 geometry 입니다: " + type);
+        }
+        int count = 0;
+        for (JsonNode line : lines) {
+            count += line.size();
+        }
+        double[] coordinates = new double[count * 2];
+        int i = 0;
+        for (JsonNode line : lines) {
+            for (JsonNode position : line) {
+                coordinates[i++] = position.get(1).asDouble();
+                coordinates[i++] = position.get(0).asDouble();
+            }
+        }
+        return coordinates;
+    }
+}
@@ -0,0 +1,115 @@
+package com.kbsw.seasonthon.route.catalog;
+
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트 카탈로그 제공 (route.catalog.path 의 파일을 매핑해 두고, 파일이 바뀌면 다시 매핑)
+ * 파일의 수정 시각/크기를 주기적으로 확인해 교체되었으면 새로 연 카탈로그로 바꾼다.
+ * 이전 카탈로그의 경유지 뷰를 들고 있는 응답이 있어도, 교체는 새 파일로의 이름 변경이므로 기존 매핑은 그대로 유효하다.
+ */
+@Slf4j
+@Component
+public class RouteCatalogService {
+
+    private final Path path;
+    private volatile Loaded current;
+
+    // 누적 지표
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong reloadFailures = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    public RouteCatalogService(@Value("${route.catalog.path:}") String path) {
+        this.path = path.isBlank() ? null : Path.of(path);
+        reloadIfChanged();
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    // 카탈로그에 있는 라우트 (카탈로그가 없거나 routeId 가 없으면 null)
+    public RouteResponse find(String routeId) {
+        Loaded loaded = current;
+        if (loaded == null) {
+            return null;
+        }
+        RouteResponse route = loaded.catalog().find(routeId);
+        if (route != null) {
+            hits.incrementAndGet();
+        }
+        return route;
+    }
+
+    @Scheduled(initialDelayString = "${route.catalog.reload-interval-ms:10000}",
+               fixedDelayString = "${route.catalog.reload-interval-ms:10000}")
+    public void checkForUpdate() {
+        reloadIfChanged();
+    }
+
+    // 파일이 바뀌었으면 다시 매핑 (다시 매핑했으면 true)
+    public synchronized boolean reloadIfChanged() {
+        if (path == null) {
+            return false;
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // 아직 파일이 없으면 기존 카탈로그를 유지하고 다음 확인 때 다시 본다
+            return false;
+        } catch (IOException e) {
+            log.warn("라우트 카탈로그 확인 실패 - {}: {}", path, e.getMessage());
+            return false;
+        }
+
+        Loaded loaded = current;
+        if (loaded != null && loaded.modified().equals(attributes.lastModifiedTime())
+                && loaded.size() == attributes.size()) {
+            return false;
+        }
+        try {
+            RouteCatalog catalog = RouteCatalog.open(path);
+            current = new Loaded(catalog, attributes.lastModifiedTime(), attributes.size(), Instant.now());
+            reloads.incrementAndGet();
+            log.info("라우트 카탈로그 로드: path={}, routes={}", path, catalog.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 쓰는 중이거나 깨진 파일이면 기존 카탈로그로 계속 응답한다
+            reloadFailures.incrementAndGet();
+            log.warn("라우트 카탈로그 로드 실패 - {}: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Loaded loaded = current;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("path", path != null ? path.toString() : null);
+        stats.put("routes", loaded != null ? loaded.catalog().size() : 0);
+        stats.put("loadedAt", loaded != null ? loaded.loadedAt().toString() : null);
+        stats.put("reloads", reloads.get());
+        stats.put("reloadFailures", reloadFailures.get());
+        stats.put("hits", hits.get());
+        return stats;
+    }
+
+    private record Loaded(RouteCatalog catalog, FileTime modified, long size, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.kbsw.seasonthon.route.controller;
+
+import com.kbsw.seasonthon.route.catalog.RouteCatalogService;
+import com.kbsw.seasonthon.route.provider.CachingRouteProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/routes")
+@RequiredArgsConstructor
+@Tag(name = "Route Admin", description = "라우트 운영 API (관리자만 가능)")
+public class RouteAdminController {
+
+    private final CachingRouteProvider cachingRouteProvider;
+    private final RouteCatalogService routeCatalogService;
+
+    @GetMapping("/cache-stats")
+    @Operation(summary = "라우트 캐시 통계", description = "라우트 캐시의 크기, 적중률, 실제 조회/동시 요청 합류/실패 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(cachingRouteProvider.stats());
+    }
+
+    @DeleteMapping("/cache/{routeId}")
+    @Operation(summary = "라우트 캐시 제거", description = "특정 routeId 의 캐시를 지웁니다. 다음 요청에서 다시 조회합니다.")
+    public ResponseEntity<Void> evictRoute(
+            @PathVariable String routeId) {
+        cachingRouteProvider.evict(routeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/cache")
+    @Operation(summary = "라우트 캐시 전체 제거", description = "라우트 캐시를 모두 지웁니다.")
+    public ResponseEntity<Void> evictAllRoutes() {
+        cachingRouteProvider.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/catalog-stats")
+    @Operation(summary = "라우트 카탈로그 지표", description = "카탈로그 파일 경로, 라우트 수, 마지막 로드 시각, 재로드/실패/적중 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCatalogStats() {
+        return ResponseEntity.ok(routeCatalogService.stats());
+    }
+
+    @PostMapping("/catalog/reload")
+    @Operation(summary = "라우트 카탈로그 다시 읽기", description = "주기 확인을 기다리지 않고 카탈로그 파일이 바뀌었는지 바로 확인해 다시 읽습니다.")
+    public ResponseEntity<Map<String, Object>> reloadCatalog() {
+        if (!routeCatalogService.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "라우트 카탈로그가 설정되지 않았습니다.");
+        }
+        routeCatalogService.reloadIfChanged();
+        return ResponseEntity.ok(routeCatalogService.stats());
+    }
+}
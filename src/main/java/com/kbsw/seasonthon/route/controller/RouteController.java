@@ -1,17 +1,21 @@
 package com.kbsw.seasonthon.route.controller;
 
+import com.kbsw.seasonthon.route.dto.request.RouteLoopRequest;
+import com.kbsw.seasonthon.route.dto.request.RoutePathRequest;
 import com.kbsw.seasonthon.route.dto.request.RouteRequest;
 import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import com.kbsw.seasonthon.route.engine.SafeRouteEngine;
+import com.kbsw.seasonthon.route.provider.LocalRouteProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api")
@@ -20,31 +24,44 @@ import java.util.Random;
 @Tag(name = "Route", description = "라우트 관련 API")
 public class RouteController {
 
+    // 이 엔드포인트는 항상 프로세스 내 라우트를 내보낸다 (remote 설정 시 자기 자신을 다시 호출하지 않도록)
+    private final LocalRouteProvider localRouteProvider;
+    // route.engine.graph-path 가 설정된 경우에만 존재
+    private final Optional<SafeRouteEngine> safeRouteEngine;
+
     @PostMapping("/route-single")
     @Operation(summary = "단일 라우트 정보 조회", description = "라우트 ID로 라우트 정보를 조회합니다.")
     public ResponseEntity<RouteResponse> getRouteInfo(@RequestBody RouteRequest request) {
         log.info("라우트 정보 조회 요청: {}", request.getRouteId());
-        
-        // 임시 테스트 데이터 생성
-        Random random = new Random();
-        int safetyScore = 50 + random.nextInt(50); // 50-99 사이의 랜덤 점수
-        
-        List<List<Double>> waypoints = Arrays.asList(
-            Arrays.asList(37.5665, 126.9780), // 서울시청
-            Arrays.asList(37.5675, 126.9790), // 명동
-            Arrays.asList(37.5670, 126.9760), // 을지로
-            Arrays.asList(37.5665, 126.9780)  // 서울시청 (돌아오기)
-        );
-        
-        RouteResponse response = RouteResponse.builder()
-                .routeId(request.getRouteId())
-                .type("safe")
-                .distanceKm(5.1)
-                .safetyScore(safetyScore)
-                .durationMin(32)
-                .waypoints(waypoints)
-                .build();
-        
-        return ResponseEntity.ok(response);
+
+        return ResponseEntity.ok(localRouteProvider.getRoute(request.getRouteId()));
+    }
+
+    @PostMapping("/routes/loop")
+    @Operation(summary = "안전 루프 경로 생성", description = "출발점으로 돌아오는 목표 거리의 안전 경로를 계산합니다.")
+    public ResponseEntity<RouteResponse> getLoopRoute(@RequestBody RouteLoopRequest request) {
+        if (request.getLat() == null || request.getLon() == null || request.getDistanceKm() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "lat, lon, distanceKm 는 필수입니다.");
+        }
+        log.info("루프 경로 요청: lat={}, lon={}, distanceKm={}", request.getLat(), request.getLon(), request.getDistanceKm());
+
+        return ResponseEntity.ok(engine().loop(request.getLat(), request.getLon(), request.getDistanceKm()));
+    }
+
+    @PostMapping("/routes/path")
+    @Operation(summary = "두 지점 간 안전 경로", description = "출발지에서 도착지까지의 안전 경로를 계산합니다.")
+    public ResponseEntity<RouteResponse> getPathRoute(@RequestBody RoutePathRequest request) {
+        if (request.getFromLat() == null || request.getFromLon() == null
+                || request.getToLat() == null || request.getToLon() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fromLat, fromLon, toLat, toLon 은 필수입니다.");
+        }
+
+        return ResponseEntity.ok(engine().path(request.getFromLat(), request.getFromLon(),
+                request.getToLat(), request.getToLon()));
+    }
+
+    private SafeRouteEngine engine() {
+        return safeRouteEngine.orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "경로 엔진이 설정되지 않았습니다."));
     }
 }
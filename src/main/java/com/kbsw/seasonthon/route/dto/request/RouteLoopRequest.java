@@ -0,0 +1,14 @@
+package com.kbsw.seasonthon.route.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RouteLoopRequest {
+    private Double lat;            // 출발(도착) 위도
+    private Double lon;            // 출발(도착) 경도
+    private Double distanceKm;     // 목표 거리 (1 ~ 42.195km)
+}
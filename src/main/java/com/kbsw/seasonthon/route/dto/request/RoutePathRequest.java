@@ -0,0 +1,15 @@
+package com.kbsw.seasonthon.route.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoutePathRequest {
+    private Double fromLat;
+    private Double fromLon;
+    private Double toLat;
+    private Double toLon;
+}
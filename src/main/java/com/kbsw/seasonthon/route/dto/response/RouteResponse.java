@@ -2,11 +2,13 @@ package com.kbsw.seasonthon.route.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class RouteResponse {
     private String routeId;
     private String type;
@@ -14,4 +16,14 @@ public class RouteResponse {
     private Integer safetyScore;
     private Integer durationMin;
     private List<List<Double>> waypoints;
+
+    // 크루 엔티티가 받는 "lat,lon" 문자열 목록으로 변환
+    public List<String> toLatLonStrings() {
+        if (waypoints == null) {
+            return List.of();
+        }
+        return waypoints.stream()
+                .map(point -> point.get(0) + "," + point.get(1))
+                .toList();
+    }
 }
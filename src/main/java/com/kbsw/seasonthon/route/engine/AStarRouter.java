@@ -0,0 +1,106 @@
+package com.kbsw.seasonthon.route.engine;
+
+import java.util.Arrays;
+
+/**
+ * 안전도 가중 비용 A* 탐색
+ * 휴리스틱은 목적지까지의 대권 거리이며, 비용이 항상 길이 이상이므로 최적 경로를 보장한다.
+ * 노드 수 크기의 탐색 배열은 CPU 수만큼만 만들어 풀에서 돌려 쓰고, 방문 표시를 세대 번호로 초기화해 재사용한다.
+ */
+public class AStarRouter implements Router {
+
+    private final RoadGraph graph;
+    private final double safetyWeight;
+    private final SearchStatePool<SearchState> states;
+
+    public AStarRouter(RoadGraph graph, double safetyWeight) {
+        this.graph = graph;
+        this.safetyWeight = safetyWeight;
+        this.states = new SearchStatePool<>(() -> new SearchState(graph.nodeCount()));
+    }
+
+    @Override
+    public RoutePath route(int from, int to) {
+        SearchState state = states.acquire();
+        try {
+            return search(state, from, to);
+        } finally {
+            states.release(state);
+        }
+    }
+
+    private RoutePath search(SearchState state, int from, int to) {
+        state.reset();
+        state.visit(from, 0, -1);
+        state.heap.push(graph.distanceMeters(from, to), from);
+
+        while (!state.heap.isEmpty()) {
+            int node = state.heap.pop();
+            if (state.closed[node] == state.stamp) {
+                continue;
+            }
+            state.closed[node] = state.stamp;
+            if (node == to) {
+                return RoutePath.of(graph, state.path(from, to), safetyWeight);
+            }
+            double cost = state.cost[node];
+            for (int e = graph.edgeStart(node); e < graph.edgeEnd(node); e++) {
+                int next = graph.edgeTarget(e);
+                if (state.closed[next] == state.stamp) {
+                    continue;
+                }
+                double nextCost = cost + graph.edgeCost(e, safetyWeight);
+                if (state.seen[next] != state.stamp || nextCost < state.cost[next]) {
+                    state.visit(next, nextCost, node);
+                    state.heap.push(nextCost + graph.distanceMeters(next, to), next);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class SearchState {
+        private final double[] cost;
+        private final int[] parent;
+        private final int[] seen;
+        private final int[] closed;
+        private final MinHeap heap = new MinHeap();
+        private int stamp;
+
+        private SearchState(int nodeCount) {
+            this.cost = new double[nodeCount];
+            this.parent = new int[nodeCount];
+            this.seen = new int[nodeCount];
+            this.closed = new int[nodeCount];
+        }
+
+        private void reset() {
+            heap.clear();
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(seen, 0);
+                Arrays.fill(closed, 0);
+                stamp = 1;
+            }
+        }
+
+        private void visit(int node, double nodeCost, int parentNode) {
+            seen[node] = stamp;
+            cost[node] = nodeCost;
+            parent[node] = parentNode;
+        }
+
+        private int[] path(int from, int to) {
+            int length = 1;
+            for (int node = to; node != from; node = parent[node]) {
+                length++;
+            }
+            int[] nodes = new int[length];
+            int node = to;
+            for (int i = length - 1; i >= 0; i--) {
+                nodes[i] = node;
+                node = parent[node];
+            }
+            return nodes;
+        }
+    }
+}
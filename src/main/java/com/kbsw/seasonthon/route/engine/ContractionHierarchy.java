@@ -0,0 +1,546 @@
+package com.kbsw.seasonthon.route.engine;
+
+import java.util.Arrays;
+
+/**
+ * Contraction Hierarchy (안전도 가중 비용 기준 전처리)
+ * 중요도가 낮은 노드부터 축약하며 필요한 지름길 간선을 추가하고, 질의는 양방향 상향 탐색만 하므로
+ * 도시 규모 그래프에서 A* 보다 훨씬 적은 노드만 방문한다. 지름길은 가운데 노드를 기억해 원래 경로로 펼친다.
+ * 질의 상태는 AStarRouter 와 같이 CPU 수만큼만 만들어 풀에서 돌려 쓴다.
+ * 비용 가중치(safetyWeight)가 바뀌거나 안전도가 다시 매겨지면 다시 만들어야 한다.
+ */
+public class ContractionHierarchy implements Router {
+
+    // 축약 시 지름길이 필요한지 확인하는 witness 탐색의 최대 확정 노드 수
+    private static final int WITNESS_SETTLE_LIMIT = 200;
+
+    private final RoadGraph graph;
+    private final double safetyWeight;
+    private final int[] rank;
+    // 정방향 탐색용 상향 간선 u -> v (rank v > rank u), u 기준 CSR
+    private final int[] upStart;
+    private final int[] upTarget;
+    private final double[] upCost;
+    private final int[] upMiddle;
+    // 역방향 탐색용 간선 u -> v (rank u > rank v), v 기준 CSR 이며 downSource 가 u
+    private final int[] downStart;
+    private final int[] downSource;
+    private final double[] downCost;
+    private final int[] downMiddle;
+    private final SearchStatePool<QueryState> states;
+
+    private ContractionHierarchy(RoadGraph graph, double safetyWeight, int[] rank,
+                                 EdgeList[] up, EdgeList[] down) {
+        this.graph = graph;
+        this.safetyWeight = safetyWeight;
+        this.rank = rank;
+        int n = graph.nodeCount();
+        this.upStart = new int[n + 1];
+        this.downStart = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            upStart[v + 1] = upStart[v] + up[v].size;
+            downStart[v + 1] = downStart[v] + down[v].size;
+        }
+        this.upTarget = new int[upStart[n]];
+        this.upCost = new double[upStart[n]];
+        this.upMiddle = new int[upStart[n]];
+        this.downSource = new int[downStart[n]];
+        this.downCost = new double[downStart[n]];
+        this.downMiddle = new int[downStart[n]];
+        for (int v = 0; v < n; v++) {
+            System.arraycopy(up[v].other, 0, upTarget, upStart[v], up[v].size);
+            System.arraycopy(up[v].cost, 0, upCost, upStart[v], up[v].size);
+            System.arraycopy(up[v].middle, 0, upMiddle, upStart[v], up[v].size);
+            System.arraycopy(down[v].other, 0, downSource, downStart[v], down[v].size);
+            System.arraycopy(down[v].cost, 0, downCost, downStart[v], down[v].size);
+            System.arraycopy(down[v].middle, 0, downMiddle, downStart[v], down[v].size);
+        }
+        this.states = new SearchStatePool<>(() -> new QueryState(n));
+    }
+
+    public static ContractionHierarchy build(RoadGraph graph, double safetyWeight) {
+        return new Builder(graph, safetyWeight).build();
+    }
+
+    public int shortcutCount() {
+        int shortcuts = 0;
+        for (int middle : upMiddle) {
+            shortcuts += middle >= 0 ? 1 : 0;
+        }
+        for (int middle : downMiddle) {
+            shortcuts += middle >= 0 ? 1 : 0;
+        }
+        return shortcuts;
+    }
+
+    @Override
+    public RoutePath route(int from, int to) {
+        QueryState state = states.acquire();
+        try {
+            return search(state, from, to);
+        } finally {
+            states.release(state);
+        }
+    }
+
+    private RoutePath search(QueryState state, int from, int to) {
+        state.reset();
+        state.forward.visit(from, 0, -1);
+        state.forward.heap.push(0, from);
+        state.backward.visit(to, 0, -1);
+        state.backward.heap.push(0, to);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+        while (true) {
+            boolean forwardActive = !state.forward.heap.isEmpty() && state.forward.heap.peekKey() < best;
+            boolean backwardActive = !state.backward.heap.isEmpty() && state.backward.heap.peekKey() < best;
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+            if (forwardActive) {
+                int node = settle(state.forward, upStart, upTarget, upCost);
+                if (node >= 0 && state.backward.reached(node)) {
+                    double total = state.forward.cost[node] + state.backward.cost[node];
+                    if (total < best) {
+                        best = total;
+                        meet = node;
+                    }
+                }
+            }
+            if (backwardActive) {
+                int node = settle(state.backward, downStart, downSource, downCost);
+                if (node >= 0 && state.forward.reached(node)) {
+                    double total = state.forward.cost[node] + state.backward.cost[node];
+                    if (total < best) {
+                        best = total;
+                        meet = node;
+                    }
+                }
+            }
+        }
+        if (meet < 0) {
+            return null;
+        }
+        return RoutePath.of(graph, unpack(state, from, to, meet), safetyWeight);
+    }
+
+    // 힙에서 한 노드를 확정하고 인접 간선을 완화 (낡은 항목이면 -1)
+    private int settle(Search search, int[] start, int[] other, double[] cost) {
+        double key = search.heap.peekKey();
+        int node = search.heap.pop();
+        if (key > search.cost[node]) {
+            return -1;
+        }
+        for (int e = start[node]; e < start[node + 1]; e++) {
+            int next = other[e];
+            double nextCost = key + cost[e];
+            if (!search.reached(next) || nextCost < search.cost[next]) {
+                search.visit(next, nextCost, e);
+                search.heap.push(nextCost, next);
+            }
+        }
+        return node;
+    }
+
+    // 만난 노드 기준으로 양쪽 CH 간선을 이어 붙인 뒤 지름길을 원래 노드열로 펼친다
+    private int[] unpack(QueryState state, int from, int to, int meet) {
+        IntList chNodes = state.chNodes;
+        chNodes.clear();
+        for (int node = meet; node != from; ) {
+            chNodes.add(node);
+            node = upOwner(state.forward.parent[node]);
+        }
+        chNodes.add(from);
+        chNodes.reverse();
+        for (int node = meet; node != to; ) {
+            node = downTarget(state.backward.parent[node]);
+            chNodes.add(node);
+        }
+
+        IntList nodes = state.nodes;
+        nodes.clear();
+        nodes.add(from);
+        IntList stack = state.stack;
+        for (int i = 0; i + 1 < chNodes.size; i++) {
+            stack.clear();
+            stack.add(chNodes.values[i]);
+            stack.add(chNodes.values[i + 1]);
+            while (stack.size > 0) {
+                int b = stack.values[--stack.size];
+                int a = stack.values[--stack.size];
+                int middle = middleOf(a, b);
+                if (middle < 0) {
+                    nodes.add(b);
+                } else {
+                    stack.add(middle);
+                    stack.add(b);
+                    stack.add(a);
+                    stack.add(middle);
+                }
+            }
+        }
+        return Arrays.copyOf(nodes.values, nodes.size);
+    }
+
+    // 상향 간선 e 의 출발 노드
+    private int upOwner(int edge) {
+        int low = 0;
+        int high = upStart.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (upStart[mid] <= edge) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // 역방향 간선 e (u -> v, v 기준 저장)에서 v
+    private int downTarget(int edge) {
+        int low = 0;
+        int high = downStart.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (downStart[mid] <= edge) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // CH 간선 a -> b 의 가운데 노드 (원래 간선이면 -1)
+    private int middleOf(int a, int b) {
+        if (rank[b] > rank[a]) {
+            for (int e = upStart[a]; e < upStart[a + 1]; e++) {
+                if (upTarget[e] == b) {
+                    return upMiddle[e];
+                }
+            }
+        } else {
+            for (int e = downStart[b]; e < downStart[b + 1]; e++) {
+                if (downSource[e] == a) {
+                    return downMiddle[e];
+                }
+            }
+        }
+        throw new IllegalStateException("CH 간선을 찾을 수 없습니다: " + a + " -> " + b);
+    }
+
+    private static final class Search {
+        private final double[] cost;
+        private final int[] parent;   // 도달에 사용한 CH 간선 인덱스
+        private final int[] seen;
+        private final MinHeap heap = new MinHeap();
+        private int stamp;
+
+        private Search(int nodeCount) {
+            this.cost = new double[nodeCount];
+            this.parent = new int[nodeCount];
+            this.seen = new int[nodeCount];
+        }
+
+        private void reset() {
+            heap.clear();
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(seen, 0);
+                stamp = 1;
+            }
+        }
+
+        private boolean reached(int node) {
+            return seen[node] == stamp;
+        }
+
+        private void visit(int node, double nodeCost, int edge) {
+            seen[node] = stamp;
+            cost[node] = nodeCost;
+            parent[node] = edge;
+        }
+    }
+
+    private static final class QueryState {
+        private final Search forward;
+        private final Search backward;
+        private final IntList chNodes = new IntList();
+        private final IntList nodes = new IntList();
+        private final IntList stack = new IntList();
+
+        private QueryState(int nodeCount) {
+            this.forward = new Search(nodeCount);
+            this.backward = new Search(nodeCount);
+        }
+
+        private void reset() {
+            forward.reset();
+            backward.reset();
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        private void clear() {
+            size = 0;
+        }
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void reverse() {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+        }
+    }
+
+    // 노드별 가변 간선 목록 (전처리 중에만 사용)
+    private static final class EdgeList {
+        private int[] other = new int[4];
+        private double[] cost = new double[4];
+        private int[] middle = new int[4];
+        private int size;
+
+        private int indexOf(int node) {
+            for (int i = 0; i < size; i++) {
+                if (other[i] == node) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void remove(int node) {
+            int index = indexOf(node);
+            if (index >= 0) {
+                size--;
+                other[index] = other[size];
+                cost[index] = cost[size];
+                middle[index] = middle[size];
+            }
+        }
+
+        private void add(int node, double edgeCost, int middleNode) {
+            if (size == other.length) {
+                other = Arrays.copyOf(other, size * 2);
+                cost = Arrays.copyOf(cost, size * 2);
+                middle = Arrays.copyOf(middle, size * 2);
+            }
+            other[size] = node;
+            cost[size] = edgeCost;
+            middle[size] = middleNode;
+            size++;
+        }
+    }
+
+    private static final class Builder {
+        private final RoadGraph graph;
+        private final double safetyWeight;
+        private final int n;
+        private final EdgeList[] out;
+        private final EdgeList[] in;
+        private final EdgeList[] up;
+        private final EdgeList[] down;
+        private final boolean[] contracted;
+        private final int[] deletedNeighbors;
+        private final int[] level; // 축약된 이웃 중 가장 깊은 계층 + 1 (질의 탐색 깊이를 고르게)
+        // witness 탐색 상태
+        private final double[] witnessCost;
+        private final int[] witnessSeen;
+        private final MinHeap witnessHeap = new MinHeap();
+        private int witnessStamp;
+
+        private Builder(RoadGraph graph, double safetyWeight) {
+            this.graph = graph;
+            this.safetyWeight = safetyWeight;
+            this.n = graph.nodeCount();
+            this.out = new EdgeList[n];
+            this.in = new EdgeList[n];
+            this.up = new EdgeList[n];
+            this.down = new EdgeList[n];
+            for (int v = 0; v < n; v++) {
+                out[v] = new EdgeList();
+                in[v] = new EdgeList();
+                up[v] = new EdgeList();
+                down[v] = new EdgeList();
+            }
+            this.contracted = new boolean[n];
+            this.deletedNeighbors = new int[n];
+            this.level = new int[n];
+            this.witnessCost = new double[n];
+            this.witnessSeen = new int[n];
+        }
+
+        private ContractionHierarchy build() {
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int v = graph.edgeTarget(e);
+                    if (v != u) {
+                        addOrImprove(u, v, graph.edgeCost(e, safetyWeight), -1);
+                    }
+                }
+            }
+
+            MinHeap queue = new MinHeap();
+            for (int v = 0; v < n; v++) {
+                queue.push(priority(v), v);
+            }
+            int[] rank = new int[n];
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.pop();
+                if (contracted[v]) {
+                    continue;
+                }
+                // 우선순위를 다시 계산해 여전히 가장 작을 때만 축약 (lazy update)
+                double priority = priority(v);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.push(priority, v);
+                    continue;
+                }
+                contract(v);
+                contracted[v] = true;
+                rank[v] = order++;
+            }
+            return new ContractionHierarchy(graph, safetyWeight, rank, up, down);
+        }
+
+        // 2 * 간선 수 변화(추가될 지름길 - 제거될 간선) + 이미 축약된 이웃 수 + 계층 깊이
+        private double priority(int v) {
+            int removed = 0;
+            for (int i = 0; i < in[v].size; i++) {
+                removed += contracted[in[v].other[i]] ? 0 : 1;
+            }
+            for (int i = 0; i < out[v].size; i++) {
+                removed += contracted[out[v].other[i]] ? 0 : 1;
+            }
+            return 2.0 * (shortcuts(v, false) - removed) + deletedNeighbors[v] + level[v];
+        }
+
+        private void contract(int v) {
+            for (int i = 0; i < out[v].size; i++) {
+                int w = out[v].other[i];
+                if (!contracted[w]) {
+                    up[v].add(w, out[v].cost[i], out[v].middle[i]);
+                    deletedNeighbors[w]++;
+                    level[w] = Math.max(level[w], level[v] + 1);
+                }
+            }
+            for (int i = 0; i < in[v].size; i++) {
+                int u = in[v].other[i];
+                if (!contracted[u]) {
+                    down[v].add(u, in[v].cost[i], in[v].middle[i]);
+                    deletedNeighbors[u]++;
+                    level[u] = Math.max(level[u], level[v] + 1);
+                }
+            }
+            shortcuts(v, true);
+            // 남은 그래프에서 v 로 이어진 간선을 떼어 낸다 (witness 탐색과 차수 계산이 축약된 노드를 보지 않도록)
+            for (int i = 0; i < out[v].size; i++) {
+                in[out[v].other[i]].remove(v);
+            }
+            for (int i = 0; i < in[v].size; i++) {
+                out[in[v].other[i]].remove(v);
+            }
+        }
+
+        // v 를 축약할 때 필요한 지름길 수 (add 가 true 면 실제로 추가)
+        private int shortcuts(int v, boolean add) {
+            int count = 0;
+            double maxOut = 0;
+            for (int j = 0; j < out[v].size; j++) {
+                if (!contracted[out[v].other[j]]) {
+                    maxOut = Math.max(maxOut, out[v].cost[j]);
+                }
+            }
+            for (int i = 0; i < in[v].size; i++) {
+                int u = in[v].other[i];
+                if (contracted[u]) {
+                    continue;
+                }
+                double inCost = in[v].cost[i];
+                witnessSearch(u, v, inCost + maxOut);
+                for (int j = 0; j < out[v].size; j++) {
+                    int w = out[v].other[j];
+                    if (contracted[w] || w == u) {
+                        continue;
+                    }
+                    double viaCost = inCost + out[v].cost[j];
+                    boolean witnessed = witnessSeen[w] == witnessStamp && witnessCost[w] <= viaCost;
+                    if (!witnessed) {
+                        count++;
+                        if (add) {
+                            addOrImprove(u, w, viaCost, v);
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        // v 를 거치지 않는 u 출발 제한 Dijkstra (확정 노드 수와 비용 상한으로 제한)
+        private void witnessSearch(int source, int excluded, double maxCost) {
+            if (++witnessStamp == Integer.MAX_VALUE) {
+                Arrays.fill(witnessSeen, 0);
+                witnessStamp = 1;
+            }
+            witnessHeap.clear();
+            witnessSeen[source] = witnessStamp;
+            witnessCost[source] = 0;
+            witnessHeap.push(0, source);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                double key = witnessHeap.peekKey();
+                int node = witnessHeap.pop();
+                if (key > witnessCost[node]) {
+                    continue;
+                }
+                if (key > maxCost) {
+                    break;
+                }
+                settled++;
+                EdgeList edges = out[node];
+                for (int i = 0; i < edges.size; i++) {
+                    int next = edges.other[i];
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    double nextCost = key + edges.cost[i];
+                    if (witnessSeen[next] != witnessStamp || nextCost < witnessCost[next]) {
+                        witnessSeen[next] = witnessStamp;
+                        witnessCost[next] = nextCost;
+                        witnessHeap.push(nextCost, next);
+                    }
+                }
+            }
+        }
+
+        // u -> v 간선을 추가하거나, 이미 있으면 더 싼 경우에만 교체 (노드 쌍마다 간선 하나)
+        private void addOrImprove(int u, int v, double edgeCost, int middleNode) {
+            int outIndex = out[u].indexOf(v);
+            if (outIndex < 0) {
+                out[u].add(v, edgeCost, middleNode);
+                in[v].add(u, edgeCost, middleNode);
+                return;
+            }
+            if (edgeCost < out[u].cost[outIndex]) {
+                int inIndex = in[v].indexOf(u);
+                out[u].cost[outIndex] = edgeCost;
+                out[u].middle[outIndex] = middleNode;
+                in[v].cost[inIndex] = edgeCost;
+                in[v].middle[inIndex] = middleNode;
+            }
+        }
+    }
+}
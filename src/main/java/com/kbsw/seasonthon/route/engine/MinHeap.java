@@ -0,0 +1,78 @@
+package com.kbsw.seasonthon.route.engine;
+
+import java.util.Arrays;
+
+/**
+ * (키, 노드) 이진 최소 힙 (기본형 배열, 탐색 상태와 함께 재사용)
+ * decrease-key 대신 같은 노드를 여러 번 넣고, 꺼낼 때 낡은 항목은 호출 측에서 건너뛴다.
+ */
+final class MinHeap {
+
+    private double[] keys = new double[64];
+    private int[] nodes = new int[64];
+    private int size;
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    double peekKey() {
+        return keys[0];
+    }
+
+    int peekNode() {
+        return nodes[0];
+    }
+
+    void push(double key, int node) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            nodes = Arrays.copyOf(nodes, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            nodes[i] = nodes[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        nodes[i] = node;
+    }
+
+    // 최소 항목을 제거하고 노드를 반환 (키는 먼저 peekKey 로 읽는다)
+    int pop() {
+        int top = nodes[0];
+        size--;
+        if (size > 0) {
+            double key = keys[size];
+            int node = nodes[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+        return top;
+    }
+}
@@ -0,0 +1,261 @@
+package com.kbsw.seasonthon.route.engine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 도로 그래프 (CSR 인접 배열)
+ * 노드 i 의 나가는 간선은 edgeStart[i] ~ edgeStart[i + 1] - 1 이며, 양방향 도로는 방향별로 두 간선을 둔다.
+ * 좌표는 1e6 배 정수, 간선은 길이(m)와 안전도(0 위험 ~ 1 안전)를 가진다. 객체 없이 기본형 배열만 사용한다.
+ *
+ * 파일 형식 (little endian): magic "SRG1", version, nodeCount, edgeCount,
+ * latE6[n], lonE6[n], edgeStart[n + 1], edgeTarget[m], edgeLength[m], edgeSafety[m]
+ */
+public final class RoadGraph {
+
+    static final int MAGIC = 0x31475253; // "SRG1"
+    static final int VERSION = 1;
+
+    private static final double EARTH_RADIUS_M = 6_371_008.8;
+    // 가장 가까운 노드 검색용 격자 (0.01도, 위도 방향 약 1.1km)
+    private static final double CELL_DEGREES = 0.01;
+    private static final int CELL_COLUMNS = (int) Math.ceil(360 / CELL_DEGREES);
+
+    private final int nodeCount;
+    private final int[] latE6;
+    private final int[] lonE6;
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final float[] edgeLength;
+    private final float[] edgeSafety;
+
+    // 거리 계산용 (노드별 라디안 좌표와 cos(lat))
+    private final double[] latRad;
+    private final double[] lonRad;
+    private final double[] cosLat;
+    // (셀 id << 32 | 노드) 정렬 배열
+    private final long[] cellIndex;
+
+    public RoadGraph(int[] latE6, int[] lonE6, int[] edgeStart, int[] edgeTarget,
+                     float[] edgeLength, float[] edgeSafety) {
+        this.nodeCount = latE6.length;
+        if (lonE6.length != nodeCount || edgeStart.length != nodeCount + 1
+                || edgeTarget.length != edgeLength.length || edgeTarget.length != edgeSafety.length
+                || edgeStart[nodeCount] != edgeTarget.length) {
+            throw new IllegalArgumentException("도로 그래프 배열 크기가 맞지 않습니다.");
+        }
+        this.latE6 = latE6;
+        this.lonE6 = lonE6;
+        this.edgeStart = edgeStart;
+        this.edgeTarget = edgeTarget;
+        this.edgeLength = edgeLength;
+        this.edgeSafety = edgeSafety;
+
+        this.latRad = new double[nodeCount];
+        this.lonRad = new double[nodeCount];
+        this.cosLat = new double[nodeCount];
+        this.cellIndex = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            latRad[i] = Math.toRadians(lat(i));
+            lonRad[i] = Math.toRadians(lon(i));
+            cosLat[i] = Math.cos(latRad[i]);
+            cellIndex[i] = ((long) cellOf(lat(i), lon(i)) << 32) | i;
+        }
+        Arrays.sort(cellIndex);
+    }
+
+    public static RoadGraph read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("도로 그래프 파일이 아닙니다: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 도로 그래프 버전입니다: " + version);
+            }
+            int n = buffer.getInt();
+            int m = buffer.getInt();
+            int[] latE6 = readInts(buffer, n);
+            int[] lonE6 = readInts(buffer, n);
+            int[] edgeStart = readInts(buffer, n + 1);
+            int[] edgeTarget = readInts(buffer, m);
+            float[] edgeLength = readFloats(buffer, m);
+            float[] edgeSafety = readFloats(buffer, m);
+            return new RoadGraph(latE6, lonE6, edgeStart, edgeTarget, edgeLength, edgeSafety);
+        }
+    }
+
+    public void write(Path path) throws IOException {
+        int m = edgeCount();
+        ByteBuffer buffer = ByteBuffer.allocate(16 + 4 * (3 * nodeCount + 1 + 3 * m)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(nodeCount).putInt(m);
+        buffer.asIntBuffer().put(latE6).put(lonE6).put(edgeStart).put(edgeTarget);
+        buffer.position(16 + 4 * (3 * nodeCount + 1 + m));
+        buffer.asFloatBuffer().put(edgeLength).put(edgeSafety);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(buffer.array());
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * count);
+        return values;
+    }
+
+    private static float[] readFloats(ByteBuffer buffer, int count) {
+        float[] values = new float[count];
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + 4 * count);
+        return values;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int edgeCount() {
+        return edgeTarget.length;
+    }
+
+    public double lat(int node) {
+        return latE6[node] / 1e6;
+    }
+
+    public double lon(int node) {
+        return lonE6[node] / 1e6;
+    }
+
+    public int edgeStart(int node) {
+        return edgeStart[node];
+    }
+
+    public int edgeEnd(int node) {
+        return edgeStart[node + 1];
+    }
+
+    public int edgeTarget(int edge) {
+        return edgeTarget[edge];
+    }
+
+    public float edgeLength(int edge) {
+        return edgeLength[edge];
+    }
+
+    public float edgeSafety(int edge) {
+        return edgeSafety[edge];
+    }
+
+    // 안전도 가중 비용: 길이 * (1 + w * (1 - 안전도)) -> 항상 길이 이상이라 직선거리 휴리스틱이 유효하다
+    public double edgeCost(int edge, double safetyWeight) {
+        return edgeLength[edge] * (1 + safetyWeight * (1 - edgeSafety[edge]));
+    }
+
+    // 안전도 점수를 다시 매길 때 사용 (배열을 그대로 교체하지 않고 값만 갱신)
+    public void setEdgeSafety(int edge, float safety) {
+        edgeSafety[edge] = safety;
+    }
+
+    // from -> to 간선 중 비용이 가장 작은 것 (없으면 -1)
+    public int findEdge(int from, int to, double safetyWeight) {
+        int best = -1;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (int e = edgeStart[from]; e < edgeStart[from + 1]; e++) {
+            if (edgeTarget[e] == to && edgeCost(e, safetyWeight) < bestCost) {
+                best = e;
+                bestCost = edgeCost(e, safetyWeight);
+            }
+        }
+        return best;
+    }
+
+    // 두 노드 사이의 대권 거리 (m)
+    public double distanceMeters(int a, int b) {
+        return haversine(latRad[a], lonRad[a], cosLat[a], latRad[b], lonRad[b], cosLat[b]);
+    }
+
+    public double distanceMeters(int node, double lat, double lon) {
+        double rad = Math.toRadians(lat);
+        return haversine(latRad[node], lonRad[node], cosLat[node], rad, Math.toRadians(lon), Math.cos(rad));
+    }
+
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double rad1 = Math.toRadians(lat1);
+        double rad2 = Math.toRadians(lat2);
+        return haversine(rad1, Math.toRadians(lon1), Math.cos(rad1), rad2, Math.toRadians(lon2), Math.cos(rad2));
+    }
+
+    private static double haversine(double lat1, double lon1, double cos1, double lat2, double lon2, double cos2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double a = sinLat * sinLat + cos1 * cos2 * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표에서 가장 가까운 노드 (maxMeters 이내에 없으면 -1)
+     * 격자 셀을 고리 단위로 넓혀 가며 찾고, 찾은 거리보다 다음 고리가 멀면 멈춘다.
+     */
+    public int nearestNode(double lat, double lon, double maxMeters) {
+        int cellRow = (int) Math.floor((lat + 90) / CELL_DEGREES);
+        int cellCol = (int) Math.floor((lon + 180) / CELL_DEGREES);
+        double cellMeters = CELL_DEGREES * Math.PI / 180 * EARTH_RADIUS_M * Math.max(0.01, Math.cos(Math.toRadians(lat)));
+        int maxRing = (int) Math.ceil(maxMeters / cellMeters) + 1;
+
+        int best = -1;
+        double bestMeters = Double.POSITIVE_INFINITY;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int row = cellRow - ring; row <= cellRow + ring; row++) {
+                for (int col = cellCol - ring; col <= cellCol + ring; col++) {
+                    if (Math.max(Math.abs(row - cellRow), Math.abs(col - cellCol)) != ring) {
+                        continue;
+                    }
+                    int cell = row * CELL_COLUMNS + Math.floorMod(col, CELL_COLUMNS);
+                    for (int i = lowerBound((long) cell << 32); i < nodeCount && (cellIndex[i] >>> 32) == cell; i++) {
+                        int node = (int) cellIndex[i];
+                        double meters = distanceMeters(node, lat, lon);
+                        if (meters < bestMeters) {
+                            best = node;
+                            bestMeters = meters;
+                        }
+                    }
+                }
+            }
+            if (best >= 0 && bestMeters <= ring * cellMeters) {
+                break;
+            }
+        }
+        return bestMeters <= maxMeters ? best : -1;
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = nodeCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellIndex[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int cellOf(double lat, double lon) {
+        int row = (int) Math.floor((lat + 90) / CELL_DEGREES);
+        int col = Math.floorMod((int) Math.floor((lon + 180) / CELL_DEGREES), CELL_COLUMNS);
+        return row * CELL_COLUMNS + col;
+    }
+}
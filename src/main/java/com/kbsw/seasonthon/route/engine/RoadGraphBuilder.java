@@ -0,0 +1,160 @@
+package com.kbsw.seasonthon.route.engine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OSM 추출 CSV 로 도로 그래프 파일(SRG1)을 만드는 오프라인 도구
+ * OSM-PBF 는 osmium/ogr2ogr 등으로 보행 가능한 way 를 노드/간선 CSV 로 뽑은 뒤 이 도구로 변환한다.
+ *
+ * nodes.csv: osm_id,lat,lon
+ * edges.csv: from_osm_id,to_osm_id[,length_m][,safety][,oneway]
+ * (length 가 비었거나 직선 거리보다 짧으면 직선 거리, safety 가 비면 0.5, oneway 가 1/true/yes 면 한 방향만)
+ *
+ * 사용: java ... RoadGraphBuilder nodes.csv edges.csv graph.srg
+ */
+public final class RoadGraphBuilder {
+
+    private static final float DEFAULT_SAFETY = 0.5f;
+
+    private RoadGraphBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: RoadGraphBuilder <nodes.csv> <edges.csv> <graph.srg>");
+            System.exit(1);
+        }
+        RoadGraph graph = build(Path.of(args[0]), Path.of(args[1]));
+        graph.write(Path.of(args[2]));
+        System.out.printf("nodes=%d, edges=%d -> %s%n", graph.nodeCount(), graph.edgeCount(), args[2]);
+    }
+
+    public static RoadGraph build(Path nodesCsv, Path edgesCsv) throws IOException {
+        Map<Long, Integer> index = new HashMap<>();
+        IntArray lat = new IntArray();
+        IntArray lon = new IntArray();
+        try (BufferedReader reader = Files.newBufferedReader(nodesCsv, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(",", -1);
+                if (cols.length < 3 || !isNumber(cols[0])) {
+                    continue; // 헤더/빈 줄
+                }
+                long osmId = Long.parseLong(cols[0].trim());
+                if (index.putIfAbsent(osmId, lat.size) == null) {
+                    lat.add((int) Math.round(Double.parseDouble(cols[1].trim()) * 1e6));
+                    lon.add((int) Math.round(Double.parseDouble(cols[2].trim()) * 1e6));
+                }
+            }
+        }
+        int nodeCount = lat.size;
+        int[] latE6 = lat.toArray();
+        int[] lonE6 = lon.toArray();
+
+        IntArray from = new IntArray();
+        IntArray to = new IntArray();
+        FloatArray length = new FloatArray();
+        FloatArray safety = new FloatArray();
+        try (BufferedReader reader = Files.newBufferedReader(edgesCsv, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(",", -1);
+                if (cols.length < 2 || !isNumber(cols[0])) {
+                    continue;
+                }
+                Integer a = index.get(Long.parseLong(cols[0].trim()));
+                Integer b = index.get(Long.parseLong(cols[1].trim()));
+                if (a == null || b == null || a.equals(b)) {
+                    continue; // 추출 범위 밖 노드나 자기 자신으로 가는 간선은 버린다
+                }
+                double straight = RoadGraph.distanceMeters(latE6[a] / 1e6, lonE6[a] / 1e6, latE6[b] / 1e6, lonE6[b] / 1e6);
+                double meters = cols.length > 2 && isNumber(cols[2]) ? Math.max(Double.parseDouble(cols[2].trim()), straight) : straight;
+                float edgeSafety = cols.length > 3 && isNumber(cols[3])
+                        ? (float) Math.min(1, Math.max(0, Double.parseDouble(cols[3].trim())))
+                        : DEFAULT_SAFETY;
+                boolean oneway = cols.length > 4 && isTrue(cols[4]);
+
+                from.add(a);
+                to.add(b);
+                length.add((float) meters);
+                safety.add(edgeSafety);
+                if (!oneway) {
+                    from.add(b);
+                    to.add(a);
+                    length.add((float) meters);
+                    safety.add(edgeSafety);
+                }
+            }
+        }
+
+        // 출발 노드 기준 계수 정렬로 CSR 구성
+        int edgeCount = from.size;
+        int[] edgeStart = new int[nodeCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            edgeStart[from.values[i] + 1]++;
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            edgeStart[v + 1] += edgeStart[v];
+        }
+        int[] cursor = Arrays.copyOf(edgeStart, nodeCount);
+        int[] edgeTarget = new int[edgeCount];
+        float[] edgeLength = new float[edgeCount];
+        float[] edgeSafetyArray = new float[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            int slot = cursor[from.values[i]]++;
+            edgeTarget[slot] = to.values[i];
+            edgeLength[slot] = length.values[i];
+            edgeSafetyArray[slot] = safety.values[i];
+        }
+        return new RoadGraph(latE6, lonE6, edgeStart, edgeTarget, edgeLength, edgeSafetyArray);
+    }
+
+    private static boolean isNumber(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+        char first = trimmed.charAt(0);
+        return Character.isDigit(first) || first == '-' || first == '.';
+    }
+
+    private static boolean isTrue(String value) {
+        String trimmed = value.trim().toLowerCase();
+        return trimmed.equals("1") || trimmed.equals("true") || trimmed.equals("yes");
+    }
+
+    private static final class IntArray {
+        private int[] values = new int[1024];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class FloatArray {
+        private float[] values = new float[1024];
+        private int size;
+
+        private void add(float value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.kbsw.seasonthon.route.engine;
+
+/**
+ * 경로 탐색 결과
+ * nodes 는 출발부터 도착까지의 노드 순서, safety 는 길이 가중 평균 안전도(0 ~ 1)이다.
+ */
+public record RoutePath(int[] nodes, double lengthMeters, double cost, double safety) {
+
+    // from -> to 경로 노드로 길이/안전도를 다시 계산 (간선마다 비용이 가장 작은 것을 사용)
+    static RoutePath of(RoadGraph graph, int[] nodes, double safetyWeight) {
+        double length = 0;
+        double cost = 0;
+        double safeLength = 0;
+        for (int i = 0; i + 1 < nodes.length; i++) {
+            int edge = graph.findEdge(nodes[i], nodes[i + 1], safetyWeight);
+            length += graph.edgeLength(edge);
+            cost += graph.edgeCost(edge, safetyWeight);
+            safeLength += graph.edgeLength(edge) * graph.edgeSafety(edge);
+        }
+        return new RoutePath(nodes, length, cost, length > 0 ? safeLength / length : 1.0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.kbsw.seasonthon.route.engine;
+
+/**
+ * 노드 사이 최소 비용 경로 탐색 (경로가 없으면 null)
+ */
+public interface Router {
+
+    RoutePath route(int from, int to);
+}
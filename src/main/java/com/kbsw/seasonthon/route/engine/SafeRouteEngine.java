@@ -0,0 +1,240 @@
+package com.kbsw.seasonthon.route.engine;
+
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import com.kbsw.seasonthon.route.safety.RouteSafetyScorer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 도로 그래프 기반 안전 경로 엔진 (route.engine.graph-path 가 있을 때만 등록)
+ * 비용은 길이 * (1 + safetyWeight * (1 - 안전도)) 이며, route.engine.contraction=true 면 시작 시 CH 전처리 후 질의한다.
+ * 안전 점수 격자가 있으면 시작 시 모든 간선의 안전도를 격자 점수로 다시 매긴 뒤 라우터를 만든다.
+ *
+ * 계산한 경로는 입력값으로 만든 routeId(loop_..., path_...)를 가지므로, 같은 id 로 다시 조회하면 같은 경로가 나온다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "route.engine.graph-path")
+public class SafeRouteEngine {
+
+    public static final String LOOP_PREFIX = "loop_";
+    public static final String PATH_PREFIX = "path_";
+
+    private static final double MIN_LOOP_KM = 1;
+    private static final double MAX_LOOP_KM = 42.195;
+    // 루프 후보 방향 (도) - 각 방향으로 정삼각형 경유지를 잡아 본다
+    private static final int[] LOOP_BEARINGS = {0, 90, 180, 270};
+    // 직선 거리 대비 실제 도로 거리 비율 추정치
+    private static final double DETOUR_FACTOR = 1.25;
+    // 응답 경유지 간 최소 간격 (m) - 노드를 모두 내보내지 않도록 솎아낸다
+    private static final double WAYPOINT_SPACING_M = 25;
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final RoadGraph graph;
+    private final Router router;
+    private final double paceMinPerKm;
+    private final double snapMeters;
+
+    public SafeRouteEngine(@Value("${route.engine.graph-path}") String graphPath,
+                           @Value("${route.engine.safety-weight:2.0}") double safetyWeight,
+                           @Value("${route.engine.contraction:false}") boolean contraction,
+                           @Value("${route.engine.pace-min-per-km:6.0}") double paceMinPerKm,
+                           @Value("${route.engine.snap-meters:300}") double snapMeters,
+                           RouteSafetyScorer safetyScorer) throws IOException {
+        long started = System.nanoTime();
+        this.graph = RoadGraph.read(Path.of(graphPath));
+        if (safetyScorer.isAvailable()) {
+            rescoreEdges(graph, safetyScorer);
+        }
+        this.router = contraction ? ContractionHierarchy.build(graph, safetyWeight) : new AStarRouter(graph, safetyWeight);
+        this.paceMinPerKm = paceMinPerKm;
+        this.snapMeters = snapMeters;
+        log.info("도로 그래프 로드: path={}, nodes={}, edges={}, router={}, {}ms", graphPath, graph.nodeCount(),
+                graph.edgeCount(), router.getClass().getSimpleName(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public RoadGraph graph() {
+        return graph;
+    }
+
+    // 간선 안전도를 격자 점수로 교체 (CH 는 안전도에 따른 비용으로 만들어지므로 라우터 생성 전에 한다)
+    private static void rescoreEdges(RoadGraph graph, RouteSafetyScorer safetyScorer) {
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                int target = graph.edgeTarget(edge);
+                graph.setEdgeSafety(edge, safetyScorer.segmentSafety(graph.lat(node), graph.lon(node),
+                        graph.lat(target), graph.lon(target)));
+            }
+        }
+    }
+
+    /**
+     * 출발점으로 돌아오는 약 distanceKm 길이의 루프
+     * 여러 방향으로 (출발, 경유지1, 경유지2) 삼각형을 만들어 길이 오차와 안전도가 가장 좋은 후보를 고른다.
+     */
+    public RouteResponse loop(double lat, double lon, double distanceKm) {
+        if (distanceKm < MIN_LOOP_KM || distanceKm > MAX_LOOP_KM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "루프 거리는 1km 이상 42.195km 이하여야 합니다.");
+        }
+        // routeId 로 다시 계산해도 같은 결과가 나오도록 id 에 담기는 정밀도로 맞춘다
+        lat = roundE6(lat);
+        lon = roundE6(lon);
+        distanceKm = Math.round(distanceKm * 1000) / 1000.0;
+        int start = snap(lat, lon);
+        double targetMeters = distanceKm * 1000;
+        double side = targetMeters / 3 / DETOUR_FACTOR;
+
+        RoutePath best = null;
+        double bestScore = Double.POSITIVE_INFINITY;
+        for (int bearing : LOOP_BEARINGS) {
+            int first = graph.nearestNode(offsetLat(lat, side, bearing), offsetLon(lat, lon, side, bearing), side / 2);
+            int second = graph.nearestNode(offsetLat(lat, side, bearing + 60), offsetLon(lat, lon, side, bearing + 60), side / 2);
+            if (first < 0 || second < 0 || first == start || second == start || first == second) {
+                continue;
+            }
+            RoutePath loop = join(router.route(start, first), router.route(first, second), router.route(second, start));
+            if (loop == null) {
+                continue;
+            }
+            // 길이 오차 비율 + 위험도(1 - 안전도) 절반
+            double score = Math.abs(loop.lengthMeters() - targetMeters) / targetMeters + (1 - loop.safety()) / 2;
+            if (score < bestScore) {
+                best = loop;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 위치에서 루프 경로를 찾을 수 없습니다.");
+        }
+        return toResponse(loopId(lat, lon, distanceKm), best);
+    }
+
+    // 두 지점 사이의 안전 경로
+    public RouteResponse path(double fromLat, double fromLon, double toLat, double toLon) {
+        fromLat = roundE6(fromLat);
+        fromLon = roundE6(fromLon);
+        toLat = roundE6(toLat);
+        toLon = roundE6(toLon);
+        RoutePath path = router.route(snap(fromLat, fromLon), snap(toLat, toLon));
+        if (path == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "두 지점을 잇는 경로를 찾을 수 없습니다.");
+        }
+        return toResponse(pathId(fromLat, fromLon, toLat, toLon), path);
+    }
+
+    public boolean supports(String routeId) {
+        return routeId != null && (routeId.startsWith(LOOP_PREFIX) || routeId.startsWith(PATH_PREFIX));
+    }
+
+    // loop_/path_ routeId 를 다시 계산
+    public RouteResponse resolve(String routeId) {
+        String[] parts = routeId.split("_");
+        try {
+            if (routeId.startsWith(LOOP_PREFIX) && parts.length == 4) {
+                return loop(fromE6(parts[1]), fromE6(parts[2]), Integer.parseInt(parts[3]) / 1000.0);
+            }
+            if (routeId.startsWith(PATH_PREFIX) && parts.length == 5) {
+                return path(fromE6(parts[1]), fromE6(parts[2]), fromE6(parts[3]), fromE6(parts[4]));
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 400
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 routeId 입니다: " + routeId);
+    }
+
+    private int snap(double lat, double lon) {
+        int node = graph.nearestNode(lat, lon, snapMeters);
+        if (node < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "주변 " + (int) snapMeters + "m 이내에 도로가 없습니다.");
+        }
+        return node;
+    }
+
+    // 구간 경로를 이어 붙인다 (이음 노드 중복 제거, 하나라도 없으면 null)
+    private static RoutePath join(RoutePath... legs) {
+        int nodeCount = 1;
+        double length = 0;
+        double cost = 0;
+        double safeLength = 0;
+        for (RoutePath leg : legs) {
+            if (leg == null) {
+                return null;
+            }
+            nodeCount += leg.nodes().length - 1;
+            length += leg.lengthMeters();
+            cost += leg.cost();
+            safeLength += leg.lengthMeters() * leg.safety();
+        }
+        int[] nodes = new int[nodeCount];
+        nodes[0] = legs[0].nodes()[0];
+        int offset = 1;
+        for (RoutePath leg : legs) {
+            System.arraycopy(leg.nodes(), 1, nodes, offset, leg.nodes().length - 1);
+            offset += leg.nodes().length - 1;
+        }
+        return new RoutePath(nodes, length, cost, length > 0 ? safeLength / length : 1.0);
+    }
+
+    private RouteResponse toResponse(String routeId, RoutePath path) {
+        double distanceKm = path.lengthMeters() / 1000;
+        return RouteResponse.builder()
+                .routeId(routeId)
+                .type("safe")
+                .distanceKm(Math.round(distanceKm * 100) / 100.0)
+                .safetyScore((int) Math.round(path.safety() * 100))
+                .durationMin((int) Math.round(distanceKm * paceMinPerKm))
+                .waypoints(waypoints(path.nodes()))
+                .build();
+    }
+
+    private List<List<Double>> waypoints(int[] nodes) {
+        List<List<Double>> points = new ArrayList<>();
+        int last = -1;
+        for (int i = 0; i < nodes.length; i++) {
+            int node = nodes[i];
+            if (last >= 0 && i < nodes.length - 1 && graph.distanceMeters(last, node) < WAYPOINT_SPACING_M) {
+                continue;
+            }
+            points.add(List.of(graph.lat(node), graph.lon(node)));
+            last = node;
+        }
+        return points;
+    }
+
+    private static String loopId(double lat, double lon, double distanceKm) {
+        return LOOP_PREFIX + toE6(lat) + "_" + toE6(lon) + "_" + Math.round(distanceKm * 1000);
+    }
+
+    private static String pathId(double fromLat, double fromLon, double toLat, double toLon) {
+        return PATH_PREFIX + toE6(fromLat) + "_" + toE6(fromLon) + "_" + toE6(toLat) + "_" + toE6(toLon);
+    }
+
+    private static long toE6(double degrees) {
+        return Math.round(degrees * 1e6);
+    }
+
+    private static double roundE6(double degrees) {
+        return toE6(degrees) / 1e6;
+    }
+
+    private static double fromE6(String value) {
+        return Long.parseLong(value) / 1e6;
+    }
+
+    private static double offsetLat(double lat, double meters, double bearingDegrees) {
+        return lat + meters * Math.cos(Math.toRadians(bearingDegrees)) / METERS_PER_DEGREE;
+    }
+
+    private static double offsetLon(double lat, double lon, double meters, double bearingDegrees) {
+        return lon + meters * Math.sin(Math.toRadians(bearingDegrees)) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.kbsw.seasonthon.route.engine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 탐색 상태(노드 수 크기의 배열 묶음) 풀
+ * 요청 스레드마다 상태를 두면 스레드 수만큼 메모리가 늘어나므로, 최대 capacity 개만 만들어 돌려 쓰고
+ * 모두 사용 중이면 반납될 때까지 기다린다. 탐색은 CPU 작업이라 동시에 capacity(기본 CPU 수)개를 넘겨도 빨라지지 않는다.
+ */
+final class SearchStatePool<T> {
+
+    private final BlockingQueue<T> idle;
+    private final Supplier<T> factory;
+    private final int capacity;
+    private int created;
+
+    SearchStatePool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors(), factory);
+    }
+
+    SearchStatePool(int capacity, Supplier<T> factory) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("탐색 상태 풀 크기는 1 이상이어야 합니다: " + capacity);
+        }
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    T acquire() {
+        T state = idle.poll();
+        if (state != null) {
+            return state;
+        }
+        if (reserve()) {
+            return factory.get();
+        }
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경로 탐색 상태를 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    void release(T state) {
+        idle.offer(state);
+    }
+
+    // 아직 만들 수 있으면 한 자리 예약 (배열 할당은 락 밖에서)
+    private synchronized boolean reserve() {
+        if (created >= capacity) {
+            return false;
+        }
+        created++;
+        return true;
+    }
+}
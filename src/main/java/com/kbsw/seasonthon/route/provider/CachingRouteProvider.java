@@ -0,0 +1,117 @@
+package com.kbsw.seasonthon.route.provider;
+
+import com.kbsw.seasonthon.global.cache.TtlCache;
+import com.kbsw.seasonthon.route.catalog.RouteCatalogService;
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 라우트 정보 캐시 (routeId -> 라우트 정보)
+ * 크기 제한 + TTL 이며, 같은 routeId 를 동시에 요청하면 한 번만 조회하고 나머지는 그 결과를 기다린다.
+ * 실제 조회는 외부 라우트 서버(route.provider=remote)가 있으면 그쪽, 없으면 프로세스 내 조회를 사용한다.
+ * 라우트 카탈로그에 있는 routeId 는 이미 메모리 매핑되어 있으므로 캐시를 거치지 않고 바로 돌려준다.
+ */
+@Primary
+@Component
+public class CachingRouteProvider implements RouteProvider {
+
+    private final RouteProvider source;
+    private final RouteCatalogService routeCatalogService;
+    private final TtlCache<String, RouteResponse> cache;
+    private final Map<String, CompletableFuture<RouteResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 누적 지표
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public CachingRouteProvider(LocalRouteProvider localRouteProvider,
+                                Optional<RemoteRouteProvider> remoteRouteProvider,
+                                RouteCatalogService routeCatalogService,
+                                @Value("${route.cache.ttl-seconds:3600}") long ttlSeconds,
+                                @Value("${route.cache.max-size:1000}") int maxSize) {
+        this.source = remoteRouteProvider.<RouteProvider>map(remote -> remote).orElse(localRouteProvider);
+        this.routeCatalogService = routeCatalogService;
+        this.cache = new TtlCache<>("route", Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    @Override
+    public RouteResponse getRoute(String routeId) {
+        if (routeId == null || routeId.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "routeId 는 필수입니다.");
+        }
+        RouteResponse catalogRoute = routeCatalogService.find(routeId);
+        if (catalogRoute != null) {
+            return catalogRoute;
+        }
+        RouteResponse cached = cache.getIfPresent(routeId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<RouteResponse> loading = new CompletableFuture<>();
+        CompletableFuture<RouteResponse> existing = inFlight.putIfAbsent(routeId, loading);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        try {
+            loads.incrementAndGet();
+            RouteResponse route = source.getRoute(routeId);
+            cache.put(routeId, route);
+            loading.complete(route);
+            return route;
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(routeId, loading);
+        }
+    }
+
+    public void evict(String routeId) {
+        cache.invalidate(routeId);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        TtlCache.Stats stats = cache.stats();
+        return Map.of(
+                "source", source.getClass().getSimpleName(),
+                "cache", stats,
+                "hitRate", stats.hitRate(),
+                "loads", loads.get(),
+                "coalesced", coalesced.get(),
+                "failures", failures.get(),
+                "inFlight", inFlight.size());
+    }
+
+    // 먼저 시작된 조회의 결과를 그대로 돌려준다 (실패했다면 같은 예외)
+    private RouteResponse await(CompletableFuture<RouteResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
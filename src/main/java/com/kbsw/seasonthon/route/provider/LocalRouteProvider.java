@@ -0,0 +1,60 @@
+package com.kbsw.seasonthon.route.provider;
+
+import com.kbsw.seasonthon.route.catalog.RouteCatalogService;
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import com.kbsw.seasonthon.route.engine.SafeRouteEngine;
+import com.kbsw.seasonthon.route.safety.RouteSafetyScorer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 프로세스 내 라우트 조회 (RouteController 와 크루 서비스가 함께 사용)
+ * 라우트 카탈로그에 있으면 카탈로그에서, 경로 엔진이 있으면 엔진이 만든 routeId(loop_..., path_...)는 엔진으로 다시 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalRouteProvider implements RouteProvider {
+
+    // 임시 테스트 경로
+    private static final List<List<Double>> SAMPLE_WAYPOINTS = List.of(
+            List.of(37.5665, 126.9780), // 서울시청
+            List.of(37.5675, 126.9790), // 명동
+            List.of(37.5670, 126.9760), // 을지로
+            List.of(37.5665, 126.9780)  // 서울시청 (돌아오기)
+    );
+
+    private final RouteCatalogService routeCatalogService;
+    private final Optional<SafeRouteEngine> safeRouteEngine;
+    private final RouteSafetyScorer safetyScorer;
+
+    @Override
+    public RouteResponse getRoute(String routeId) {
+        RouteResponse catalogRoute = routeCatalogService.find(routeId);
+        if (catalogRoute != null) {
+            return catalogRoute;
+        }
+        if (safeRouteEngine.isPresent() && safeRouteEngine.get().supports(routeId)) {
+            return safeRouteEngine.get().resolve(routeId);
+        }
+
+        // 안전 점수 격자가 있으면 경유지로 계산하고, 없으면 임시 테스트 데이터
+        // (같은 routeId 는 항상 같은 안전 점수 50-99, String.hashCode 는 JVM 간에도 동일)
+        Integer safetyScore = safetyScorer.score(SAMPLE_WAYPOINTS);
+        if (safetyScore == null) {
+            safetyScore = 50 + Math.floorMod(Objects.hashCode(routeId), 50);
+        }
+
+        return RouteResponse.builder()
+                .routeId(routeId)
+                .type("safe")
+                .distanceKm(5.1)
+                .safetyScore(safetyScore)
+                .durationMin(32)
+                .waypoints(SAMPLE_WAYPOINTS)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.kbsw.seasonthon.route.provider;
+
+import com.kbsw.seasonthon.route.dto.request.RouteRequest;
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 라우트 서버 조회 (route.provider=remote)
+ * JDK HttpClient 하나를 재사용해 연결을 풀링하고, 연결/응답 타임아웃을 둔다.
+ * 직접 주입하지 않고 CachingRouteProvider 를 거쳐 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "route.provider", havingValue = "remote")
+public class RemoteRouteProvider implements RouteProvider {
+
+    private final RestClient restClient;
+
+    public RemoteRouteProvider(@Value("${route.remote.base-url}") String baseUrl,
+                               @Value("${route.remote.connect-timeout-ms:1000}") long connectTimeoutMs,
+                               @Value("${route.remote.read-timeout-ms:3000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public RouteResponse getRoute(String routeId) {
+        RouteRequest request = new RouteRequest();
+        request.setRouteId(routeId);
+        try {
+            RouteResponse response = restClient.post()
+                    .uri("/api/route-single")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .body(RouteResponse.class);
+            if (response == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "라우트 정보를 가져올 수 없습니다.");
+            }
+            return response;
+        } catch (RestClientException e) {
+            log.error("라우트 정보 조회 실패: routeId={}, {}", routeId, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "라우트 정보를 가져올 수 없습니다.");
+        }
+    }
+}
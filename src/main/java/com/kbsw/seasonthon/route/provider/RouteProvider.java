@@ -0,0 +1,14 @@
+package com.kbsw.seasonthon.route.provider;
+
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+
+/**
+ * 라우트 정보 조회
+ * 크루 생성 등에서 자기 자신에게 HTTP 를 보내지 않고 프로세스 안에서 바로 조회한다.
+ * 주입되는 구현은 CachingRouteProvider 이며, 실제 조회는 LocalRouteProvider 또는
+ * route.provider=remote 일 때 RemoteRouteProvider 가 맡는다.
+ */
+public interface RouteProvider {
+
+    RouteResponse getRoute(String routeId);
+}
@@ -0,0 +1,57 @@
+package com.kbsw.seasonthon.route.safety;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 경로 안전 점수 계산 (route.safety.raster-path 의 격자 파일 사용)
+ * 격자가 설정되지 않았으면 isAvailable() 이 false 이고 점수 메서드는 null 을 돌려주므로, 호출 쪽은 기존 값을 그대로 쓴다.
+ */
+@Slf4j
+@Component
+public class RouteSafetyScorer {
+
+    private final SafetyRaster raster;
+
+    public RouteSafetyScorer(@Value("${route.safety.raster-path:}") String rasterPath) throws IOException {
+        if (rasterPath.isBlank()) {
+            this.raster = null;
+            return;
+        }
+        this.raster = SafetyRaster.open(Path.of(rasterPath));
+        log.info("안전 점수 격자 로드: path={}, rows={}, cols={}", rasterPath, raster.rows(), raster.cols());
+    }
+
+    public boolean isAvailable() {
+        return raster != null;
+    }
+
+    // RouteResponse 경유지 점수 (0 ~ 100, 격자가 없거나 경유지가 비면 null)
+    public Integer score(List<List<Double>> waypoints) {
+        if (raster == null || waypoints == null || waypoints.isEmpty()) {
+            return null;
+        }
+        return raster.score(waypoints);
+    }
+
+    // [lat0, lon0, lat1, lon1, ...] 좌표 점수 (크루에 저장된 polyline 재채점용)
+    public Integer score(double[] coordinates) {
+        if (raster == null || coordinates == null || coordinates.length < 2) {
+            return null;
+        }
+        return raster.score(coordinates);
+    }
+
+    // 한 구간의 안전도 (0 ~ 1, 도로 그래프 간선용)
+    public float segmentSafety(double lat1, double lon1, double lat2, double lon2) {
+        if (raster == null) {
+            throw new IllegalStateException("안전 점수 격자가 설정되지 않았습니다.");
+        }
+        return (float) (raster.segmentScore(lat1, lon1, lat2, lon2) / 100);
+    }
+}
@@ -0,0 +1,204 @@
+package com.kbsw.seasonthon.route.safety;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 안전 점수 격자 (셀마다 0 ~ 100 점, 파일을 메모리 매핑해 그대로 읽는다)
+ * 경로 점수는 구간마다 지나가는 셀을 DDA 로 따라가며 셀 안에서 지나간 길이만큼 가중 평균한다.
+ * 점수 계산은 객체를 만들지 않으며, 매핑 버퍼는 절대 위치로만 읽으므로 여러 스레드에서 함께 써도 된다.
+ *
+ * 파일 형식 (little endian): magic "SSR1", version, rows, cols, minLatE6, minLonE6,
+ * cellLatE6, cellLonE6, noDataScore, 이후 rows * cols 바이트 (행 = 위도 방향, 255 = 데이터 없음)
+ */
+public final class SafetyRaster {
+
+    static final int MAGIC = 0x31525353; // "SSR1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 9 * Integer.BYTES;
+    static final int NO_DATA = 255;
+
+    private static final double METERS_PER_DEGREE = 111_320;
+
+    private final MappedByteBuffer cells;
+    private final int rows;
+    private final int cols;
+    private final double minLat;
+    private final double minLon;
+    private final double cellLat;
+    private final double cellLon;
+    private final int noDataScore;
+
+    private SafetyRaster(MappedByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("안전 점수 격자 파일 형식이 아닙니다.");
+        }
+        this.rows = buffer.getInt(8);
+        this.cols = buffer.getInt(12);
+        this.minLat = buffer.getInt(16) / 1e6;
+        this.minLon = buffer.getInt(20) / 1e6;
+        this.cellLat = buffer.getInt(24) / 1e6;
+        this.cellLon = buffer.getInt(28) / 1e6;
+        this.noDataScore = buffer.getInt(32);
+        if (buffer.capacity() != HEADER_BYTES + (long) rows * cols) {
+            throw new IllegalArgumentException("안전 점수 격자 파일 크기가 맞지 않습니다.");
+        }
+        this.cells = buffer;
+    }
+
+    public static SafetyRaster open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new SafetyRaster(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static void write(Path path, int rows, int cols, int minLatE6, int minLonE6, int cellLatE6, int cellLonE6,
+                      int noDataScore, byte[] scores) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols)
+                .putInt(minLatE6).putInt(minLonE6).putInt(cellLatE6).putInt(cellLonE6).putInt(noDataScore);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write(header.array());
+            out.write(scores);
+        }
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    // 좌표가 속한 셀의 점수 (격자 밖이거나 데이터가 없으면 noDataScore)
+    public int score(double lat, double lon) {
+        return cellScore((int) Math.floor((lat - minLat) / cellLat), (int) Math.floor((lon - minLon) / cellLon));
+    }
+
+    /**
+     * [lat0, lon0, lat1, lon1, ...] 경로의 길이 가중 평균 점수 (PolylineCodec.decode 결과를 그대로 받는다)
+     * 점이 하나뿐이거나 길이가 0 이면 점들의 셀 점수 평균, 점이 없으면 noDataScore.
+     */
+    public int score(double[] coordinates) {
+        int points = coordinates.length / 2;
+        if (points == 0) {
+            return noDataScore;
+        }
+        double weighted = 0;
+        double meters = 0;
+        for (int i = 1; i < points; i++) {
+            double segmentMeters = segmentMeters(coordinates[2 * i - 2], coordinates[2 * i - 1], coordinates[2 * i], coordinates[2 * i + 1]);
+            weighted += segmentWeightedScore(coordinates[2 * i - 2], coordinates[2 * i - 1], coordinates[2 * i], coordinates[2 * i + 1], segmentMeters);
+            meters += segmentMeters;
+        }
+        if (meters > 0) {
+            return (int) Math.round(weighted / meters);
+        }
+        double sum = 0;
+        for (int i = 0; i < points; i++) {
+            sum += score(coordinates[2 * i], coordinates[2 * i + 1]);
+        }
+        return (int) Math.round(sum / points);
+    }
+
+    // RouteResponse 의 [[lat, lon], ...] 경유지 점수 (인덱스로 순회해 반복자도 만들지 않는다)
+    public int score(List<List<Double>> waypoints) {
+        int points = waypoints.size();
+        if (points == 0) {
+            return noDataScore;
+        }
+        double weighted = 0;
+        double meters = 0;
+        double sum = 0;
+        double prevLat = 0;
+        double prevLon = 0;
+        for (int i = 0; i < points; i++) {
+            List<Double> point = waypoints.get(i);
+            double lat = point.get(0);
+            double lon = point.get(1);
+            if (i > 0) {
+                double segmentMeters = segmentMeters(prevLat, prevLon, lat, lon);
+                weighted += segmentWeightedScore(prevLat, prevLon, lat, lon, segmentMeters);
+                meters += segmentMeters;
+            }
+            sum += score(lat, lon);
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return (int) Math.round(meters > 0 ? weighted / meters : sum / points);
+    }
+
+    // 한 구간의 평균 점수 (도로 간선 안전도 계산용)
+    public double segmentScore(double lat1, double lon1, double lat2, double lon2) {
+        double meters = segmentMeters(lat1, lon1, lat2, lon2);
+        return meters > 0 ? segmentWeightedScore(lat1, lon1, lat2, lon2, meters) / meters : score(lat1, lon1);
+    }
+
+    /**
+     * 구간이 지나는 셀을 차례로 방문하며 (셀 점수 * 셀 안 구간 길이)의 합을 구한다 (Amanatides-Woo 격자 순회)
+     * 셀 좌표계에서 구간을 t = 0 ~ 1 로 두고, 다음 가로/세로 경계 중 먼저 닿는 쪽으로 한 칸씩 이동한다.
+     */
+    private double segmentWeightedScore(double lat1, double lon1, double lat2, double lon2, double meters) {
+        double x0 = (lon1 - minLon) / cellLon;
+        double y0 = (lat1 - minLat) / cellLat;
+        double dx = (lon2 - minLon) / cellLon - x0;
+        double dy = (lat2 - minLat) / cellLat - y0;
+        int col = (int) Math.floor(x0);
+        int row = (int) Math.floor(y0);
+        int lastCol = (int) Math.floor(x0 + dx);
+        int lastRow = (int) Math.floor(y0 + dy);
+
+        int stepCol = dx > 0 ? 1 : -1;
+        int stepRow = dy > 0 ? 1 : -1;
+        double tDeltaX = dx != 0 ? Math.abs(1 / dx) : Double.POSITIVE_INFINITY;
+        double tDeltaY = dy != 0 ? Math.abs(1 / dy) : Double.POSITIVE_INFINITY;
+        double tMaxX = dx > 0 ? (col + 1 - x0) / dx : dx < 0 ? (x0 - col) / -dx : Double.POSITIVE_INFINITY;
+        double tMaxY = dy > 0 ? (row + 1 - y0) / dy : dy < 0 ? (y0 - row) / -dy : Double.POSITIVE_INFINITY;
+
+        // 부동소수 오차로 끝 셀을 지나치지 않도록 방문할 셀 수로 제한
+        int remaining = Math.abs(lastCol - col) + Math.abs(lastRow - row);
+        double sum = 0;
+        double t = 0;
+        while (true) {
+            double next = remaining == 0 ? 1 : Math.min(Math.min(tMaxX, tMaxY), 1);
+            sum += (next - t) * meters * cellScore(row, col);
+            t = next;
+            if (remaining-- == 0 || t >= 1) {
+                break;
+            }
+            if (tMaxX < tMaxY) {
+                col += stepCol;
+                tMaxX += tDeltaX;
+            } else {
+                row += stepRow;
+                tMaxY += tDeltaY;
+            }
+        }
+        return sum;
+    }
+
+    private int cellScore(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return noDataScore;
+        }
+        int value = cells.get(HEADER_BYTES + row * cols + col) & 0xFF;
+        return value == NO_DATA ? noDataScore : value;
+    }
+
+    // 짧은 구간용 등장방형 근사 거리 (m)
+    private static double segmentMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = (lat2 - lat1) * METERS_PER_DEGREE;
+        double dLon = (lon2 - lon1) * METERS_PER_DEGREE * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        return Math.sqrt(dLat * dLat + dLon * dLon);
+    }
+}
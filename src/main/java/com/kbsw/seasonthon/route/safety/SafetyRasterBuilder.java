@@ -0,0 +1,137 @@
+package com.kbsw.seasonthon.route.safety;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 가로등/CCTV/사건 CSV 로 안전 점수 격자 파일(SSR1)을 만드는 오프라인 도구
+ * 각 지점은 반경 안의 셀에 가중치를 더하고, 셀 점수는 기본 점수에 포화 곡선(1 - e^(-x/k))으로 가감한다.
+ * 가로등/CCTV 가 많을수록 오르고 사건이 많을수록 내려가며, 하나에 치우쳐도 한계를 넘지 않는다.
+ *
+ * CSV: lat,lon[,weight] (헤더 허용, weight 가 없으면 1, 사건은 심각도 등을 weight 로 준다. "-" 면 건너뜀)
+ * 사용: java ... SafetyRasterBuilder minLat,minLon,maxLat,maxLon cellMeters streetlights.csv cctv.csv incidents.csv out.ssr
+ */
+public final class SafetyRasterBuilder {
+
+    private static final double METERS_PER_DEGREE = 111_320;
+    private static final int NO_DATA_SCORE = 50;
+
+    private static final double BASE_SCORE = 40;
+    // 영향 반경(m), 최대 가감 점수, 포화 상수
+    private static final double LIGHT_RADIUS_M = 50;
+    private static final double LIGHT_MAX = 35;
+    private static final double LIGHT_SATURATION = 6;
+    private static final double CCTV_RADIUS_M = 100;
+    private static final double CCTV_MAX = 25;
+    private static final double CCTV_SATURATION = 2;
+    private static final double INCIDENT_RADIUS_M = 150;
+    private static final double INCIDENT_MAX = 45;
+    private static final double INCIDENT_SATURATION = 3;
+
+    private SafetyRasterBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 6) {
+            System.err.println("usage: SafetyRasterBuilder <minLat,minLon,maxLat,maxLon> <cellMeters> "
+                    + "<streetlights.csv> <cctv.csv> <incidents.csv> <out.ssr>");
+            System.exit(1);
+        }
+        String[] bounds = args[0].split(",");
+        Grid grid = new Grid(Double.parseDouble(bounds[0]), Double.parseDouble(bounds[1]),
+                Double.parseDouble(bounds[2]), Double.parseDouble(bounds[3]), Double.parseDouble(args[1]));
+        float[] lights = grid.density(args[2], LIGHT_RADIUS_M);
+        float[] cctv = grid.density(args[3], CCTV_RADIUS_M);
+        float[] incidents = grid.density(args[4], INCIDENT_RADIUS_M);
+
+        byte[] scores = new byte[grid.rows * grid.cols];
+        for (int i = 0; i < scores.length; i++) {
+            double score = BASE_SCORE
+                    + LIGHT_MAX * saturate(lights[i], LIGHT_SATURATION)
+                    + CCTV_MAX * saturate(cctv[i], CCTV_SATURATION)
+                    - INCIDENT_MAX * saturate(incidents[i], INCIDENT_SATURATION);
+            scores[i] = (byte) Math.max(0, Math.min(100, Math.round(score)));
+        }
+        SafetyRaster.write(Path.of(args[5]), grid.rows, grid.cols, toE6(grid.minLat), toE6(grid.minLon),
+                toE6(grid.cellLat), toE6(grid.cellLon), NO_DATA_SCORE, scores);
+        System.out.printf("rows=%d, cols=%d -> %s%n", grid.rows, grid.cols, args[5]);
+    }
+
+    private static double saturate(double value, double saturation) {
+        return 1 - Math.exp(-value / saturation);
+    }
+
+    private static int toE6(double degrees) {
+        return (int) Math.round(degrees * 1e6);
+    }
+
+    private static final class Grid {
+        private final double minLat;
+        private final double minLon;
+        private final double cellLat;
+        private final double cellLon;
+        private final int rows;
+        private final int cols;
+        private final double metersPerLon;
+
+        private Grid(double minLat, double minLon, double maxLat, double maxLon, double cellMeters) {
+            this.metersPerLon = METERS_PER_DEGREE * Math.cos(Math.toRadians((minLat + maxLat) / 2));
+            this.minLat = minLat;
+            this.minLon = minLon;
+            // 파일에는 1e-6 도 단위로 저장되므로 셀 크기도 그 정밀도로 맞춘다
+            this.cellLat = toE6(cellMeters / METERS_PER_DEGREE) / 1e6;
+            this.cellLon = toE6(cellMeters / metersPerLon) / 1e6;
+            this.rows = (int) Math.ceil((maxLat - minLat) / cellLat);
+            this.cols = (int) Math.ceil((maxLon - minLon) / cellLon);
+            if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE - SafetyRaster.HEADER_BYTES) {
+                throw new IllegalArgumentException("격자 범위 또는 셀 크기가 올바르지 않습니다.");
+            }
+        }
+
+        // 지점마다 반경 안의 셀 중심(과 지점이 속한 셀)에 가중치를 더한다
+        private float[] density(String csv, double radiusMeters) throws IOException {
+            float[] density = new float[rows * cols];
+            if (csv.equals("-")) {
+                return density;
+            }
+            int rowRadius = (int) Math.ceil(radiusMeters / (cellLat * METERS_PER_DEGREE));
+            int colRadius = (int) Math.ceil(radiusMeters / (cellLon * metersPerLon));
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(csv), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split(",", -1);
+                    double lat;
+                    double lon;
+                    try {
+                        lat = Double.parseDouble(fields[0].trim());
+                        lon = Double.parseDouble(fields[1].trim());
+                    } catch (RuntimeException e) {
+                        continue; // 헤더/잘못된 줄
+                    }
+                    float weight = fields.length > 2 && !fields[2].isBlank() ? Float.parseFloat(fields[2].trim()) : 1f;
+                    add(density, lat, lon, weight, radiusMeters, rowRadius, colRadius);
+                }
+            }
+            return density;
+        }
+
+        private void add(float[] density, double lat, double lon, float weight,
+                         double radiusMeters, int rowRadius, int colRadius) {
+            int centerRow = (int) Math.floor((lat - minLat) / cellLat);
+            int centerCol = (int) Math.floor((lon - minLon) / cellLon);
+            for (int row = Math.max(0, centerRow - rowRadius); row <= Math.min(rows - 1, centerRow + rowRadius); row++) {
+                double dLat = (minLat + (row + 0.5) * cellLat - lat) * METERS_PER_DEGREE;
+                for (int col = Math.max(0, centerCol - colRadius); col <= Math.min(cols - 1, centerCol + colRadius); col++) {
+                    double dLon = (minLon + (col + 0.5) * cellLon - lon) * metersPerLon;
+                    boolean own = row == centerRow && col == centerCol;
+                    if (own || dLat * dLat + dLon * dLon <= radiusMeters * radiusMeters) {
+                        density[row * cols + col] += weight;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kbsw.seasonthon.crew.enums;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrewSortTypeTest {
+
+    @Test
+    void sortTypeWinsAndFixesDirectionForPopularAndLatest() {
+        assertThat(CrewSortType.resolve("popular", "distance")).isEqualTo(CrewSortType.POPULAR);
+        assertThat(CrewSortType.POPULAR.direction("popular", "ASC")).isEqualTo(Sort.Direction.DESC);
+        assertThat(CrewSortType.LATEST.direction("latest", "ASC")).isEqualTo(Sort.Direction.DESC);
+        assertThat(CrewSortType.DISTANCE.direction("distance", "ASC")).isEqualTo(Sort.Direction.ASC);
+    }
+
+    @Test
+    void sortByHonorsRequestedDirection() {
+        assertThat(CrewSortType.resolve(null, "createdAt")).isEqualTo(CrewSortType.LATEST);
+        assertThat(CrewSortType.LATEST.direction(null, "ASC")).isEqualTo(Sort.Direction.ASC);
+        assertThat(CrewSortType.resolve("unknown", "startTime")).isEqualTo(CrewSortType.TIME);
+        assertThat(CrewSortType.resolve(null, "approvedCount")).isEqualTo(CrewSortType.POPULAR);
+        assertThat(CrewSortType.resolve(" ", null)).isEqualTo(CrewSortType.LATEST);
+    }
+
+    @Test
+    void unknownValuesAreRejected() {
+        assertThatThrownBy(() -> CrewSortType.resolve(null, "title"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CrewSortType.resolve("newest", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.kbsw.seasonthon.crew.job;
+
+import com.kbsw.seasonthon.crew.domain.Crew;
+import com.kbsw.seasonthon.crew.domain.CrewParticipant;
+import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.repository.CrewParticipantRepository;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import com.kbsw.seasonthon.security.jwt.enums.Role;
+import com.kbsw.seasonthon.user.entity.User;
+import com.kbsw.seasonthon.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// crew.recount-approved-count=true 로 기동해도 컨텍스트가 뜨고(시작 시 재계산), 다시 실행하면 어긋난 카운터를 보정한다
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:recount;DB_CLOSE_DELAY=-1",
+    "crew.recount-approved-count=true",
+    "crew.lifecycle.enabled=false",
+    "GOOGLE_CLIENT_ID=test", "GOOGLE_CLIENT_SECRET=test",
+    "NAVER_CLIENT_ID=test", "NAVER_CLIENT_SECRET=test",
+    "KAKAO_CLIENT_ID=test", "KAKAO_CLIENT_SECRET=test",
+    "BASE_URL=http://localhost:8080"
+})
+@ActiveProfiles("test")
+class ApprovedCountRecountJobTest {
+
+    @Autowired
+    private ApprovedCountRecountJob job;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private CrewParticipantRepository crewParticipantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void runnerRecountsInItsOwnTransaction() {
+        User host = userRepository.save(user("recount-host"));
+        User member = userRepository.save(user("recount-member"));
+        Crew crew = crewRepository.save(Crew.builder()
+            .title("재계산 테스트 크루")
+            .host(host)
+            .maxParticipants(5)
+            .routeId("route_test")
+            .type("safe")
+            .distanceKm(5.0)
+            .safetyScore(90)
+            .safetyLevel(SafetyLevel.SAFE)
+            .durationMin(30)
+            .startTime(LocalDateTime.now().plusDays(1))
+            .approvedCount(3)
+            .build());
+        crewParticipantRepository.save(CrewParticipant.builder()
+            .crew(crew)
+            .user(member)
+            .status(ParticipantStatus.APPROVED)
+            .build());
+
+        job.run(new DefaultApplicationArguments());
+
+        assertThat(crewRepository.findById(crew.getId()).orElseThrow().getApprovedCount()).isEqualTo(1);
+    }
+
+    private User user(String username) {
+        return User.builder()
+            .username(username)
+            .email(username + "@example.com")
+            .role(Role.USER)
+            .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.kbsw.seasonthon.crew.repository;
+
+import com.kbsw.seasonthon.crew.domain.Crew;
+import com.kbsw.seasonthon.crew.domain.CrewParticipant;
+import com.kbsw.seasonthon.crew.dto.response.CrewDetailResponse;
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.security.jwt.enums.Role;
+import com.kbsw.seasonthon.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CrewDetailFetchTest {
+
+    private static final int PARTICIPANTS = 30;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void detailLoadsInBoundedStatements() {
+        Long crewId = saveCrewWithParticipants();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CrewDetailResponse response = crewRepository.findDetailById(crewId)
+            .map(CrewDetailResponse::from)
+            .orElseThrow();
+
+        // 크루+호스트+참여자+사용자 1회, 태그 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(response.getParticipants()).hasSize(PARTICIPANTS);
+        assertThat(response.getParticipants()).allSatisfy(p -> assertThat(p.getUserName()).isNotNull());
+        assertThat(response.getTags()).containsExactlyInAnyOrder("주말", "초보환영");
+        assertThat(response.getWaypoints()).containsExactly("36.3504,127.3845", "36.3514,127.3855");
+        assertThat(response.getHostName()).isEqualTo("host");
+    }
+
+    private Long saveCrewWithParticipants() {
+        User host = em.persist(user("host"));
+        Crew crew = em.persist(Crew.builder()
+            .title("상세 조회 크루")
+            .description("fetch plan 테스트")
+            .host(host)
+            .maxParticipants(PARTICIPANTS)
+            .routeId("route_test")
+            .type("safe")
+            .distanceKm(5.0)
+            .safetyScore(90)
+            .safetyLevel(SafetyLevel.SAFE)
+            .durationMin(30)
+            .waypoints(List.of("36.3504,127.3845", "36.3514,127.3855"))
+            .tags(new ArrayList<>(List.of("주말", "초보환영")))
+            .build());
+
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            User user = em.persist(user("runner" + i));
+            em.persist(CrewParticipant.builder().crew(crew).user(user).build());
+        }
+        return crew.getId();
+    }
+
+    private User user(String username) {
+        return User.builder()
+            .username(username)
+            .email(username + "@example.com")
+            .role(Role.USER)
+            .build();
+    }
+}
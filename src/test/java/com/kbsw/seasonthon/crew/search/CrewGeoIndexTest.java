@@ -0,0 +1,81 @@
+package com.kbsw.seasonthon.crew.search;
+
+import com.kbsw.seasonthon.crew.util.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CrewGeoIndexTest {
+
+    private static final double LAT = 37.5000;
+    private static final double LON = 127.0000;
+
+    private final CrewGeoIndex index = new CrewGeoIndex();
+
+    @Test
+    void startPointDistanceByDefault() {
+        index.rebuild(Map.of(
+                1L, new double[]{LAT + 0.005, LON, LAT + 0.05, LON},
+                2L, new double[]{LAT + 0.02, LON, LAT, LON}));
+
+        List<CrewGeoIndex.Hit> hits = index.nearby(LAT, LON, 3.0, false, 10);
+
+        assertThat(hits).hasSize(2);
+        assertThat(hits.get(0).crewId()).isEqualTo(1L);
+        assertThat(hits.get(0).distanceKm()).isEqualTo(GeoUtils.haversineKm(LAT, LON, LAT + 0.005, LON), within(1e-9));
+        assertThat(hits.get(1).crewId()).isEqualTo(2L);
+    }
+
+    @Test
+    void includeRouteUsesNearestWaypointNotBoundingBox() {
+        // ㄱ자 경로: bounding box 모서리는 내 위치이지만 경유지는 모두 2km 이상 떨어져 있다
+        index.rebuild(Map.of(
+                1L, new double[]{LAT + 0.02, LON, LAT + 0.02, LON + 0.03, LAT, LON + 0.03},
+                2L, new double[]{LAT + 0.05, LON, LAT + 0.001, LON}));
+
+        List<CrewGeoIndex.Hit> hits = index.nearby(LAT, LON, 2.0, true, 10);
+
+        assertThat(hits).hasSize(1);
+        assertThat(hits.get(0).crewId()).isEqualTo(2L);
+        assertThat(hits.get(0).distanceKm()).isEqualTo(GeoUtils.haversineKm(LAT, LON, LAT + 0.001, LON), within(1e-9));
+
+        List<CrewGeoIndex.Hit> wider = index.nearby(LAT, LON, 3.0, true, 10);
+        assertThat(wider).hasSize(2);
+        assertThat(wider.get(1).distanceKm()).isEqualTo(GeoUtils.haversineKm(LAT, LON, LAT + 0.02, LON), within(1e-9));
+    }
+
+    @Test
+    void longRouteIsFoundNearAnyWaypoint() {
+        // bounding box 가 수천 칸에 걸치는 긴 경로: 출발지는 50km 밖이고 마지막 경유지만 내 근처
+        index.rebuild(Map.of(
+                1L, new double[]{LAT + 0.5, LON + 0.5, LAT + 0.25, LON + 0.25, LAT + 0.002, LON}));
+
+        List<CrewGeoIndex.Hit> hits = index.nearby(LAT, LON, 1.0, true, 10);
+        assertThat(hits).hasSize(1);
+        assertThat(hits.get(0).distanceKm()).isEqualTo(GeoUtils.haversineKm(LAT, LON, LAT + 0.002, LON), within(1e-9));
+
+        // 중간 경유지 근처에서도 찾고, 출발지 기준 검색에서는 빠진다
+        assertThat(index.nearby(LAT + 0.25, LON + 0.25, 1.0, true, 10)).hasSize(1);
+        assertThat(index.nearby(LAT, LON, 1.0, false, 10)).isEmpty();
+    }
+
+    @Test
+    void limitKeepsNearestAndRemoveDropsCrew() {
+        index.rebuild(Map.of(
+                1L, new double[]{LAT + 0.003, LON},
+                2L, new double[]{LAT + 0.001, LON},
+                3L, new double[]{LAT + 0.002, LON}));
+        index.remove(2L);
+        index.index(4L, new double[]{LAT, LON + 0.001});
+
+        List<CrewGeoIndex.Hit> hits = index.nearby(LAT, LON, 1.0, false, 2);
+
+        assertThat(hits).hasSize(2);
+        assertThat(hits.get(0).crewId()).isEqualTo(4L);
+        assertThat(hits.get(1).crewId()).isEqualTo(3L);
+    }
+}
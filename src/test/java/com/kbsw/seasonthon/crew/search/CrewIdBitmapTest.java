@@ -0,0 +1,118 @@
+package com.kbsw.seasonthon.crew.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrewIdBitmapTest {
+
+    // 청크(상위 16비트) 경계
+    private static final long CHUNK = 1L << 16;
+
+    @Test
+    void addRemoveAndContainsAcrossChunks() {
+        CrewIdBitmap bitmap = new CrewIdBitmap();
+        List<Long> ids = List.of(0L, 1L, CHUNK - 1, CHUNK, CHUNK + 1, 3 * CHUNK + 7, (long) Integer.MAX_VALUE);
+        ids.forEach(bitmap::add);
+        bitmap.add(CHUNK);
+
+        assertThat(bitmap.cardinality()).isEqualTo(ids.size());
+        assertThat(bitmap.toList()).isEqualTo(ids);
+        assertThat(bitmap.contains(2L)).isFalse();
+        assertThat(bitmap.contains(-1L)).isFalse();
+        assertThat(bitmap.contains((long) Integer.MAX_VALUE + 1)).isFalse();
+
+        bitmap.remove(CHUNK);
+        bitmap.remove(CHUNK + 1);
+        bitmap.remove(12345L);
+        assertThat(bitmap.contains(CHUNK)).isFalse();
+        assertThat(bitmap.toList()).containsExactly(0L, 1L, CHUNK - 1, 3 * CHUNK + 7, (long) Integer.MAX_VALUE);
+    }
+
+    @Test
+    void convertsBetweenArrayAndBitmapContainers() {
+        // 배열 컨테이너 최대 크기(4096)를 넘기면 비트맵으로, 다시 내려가면 배열로 바뀐다
+        CrewIdBitmap bitmap = new CrewIdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (long id = CHUNK; id < CHUNK + 2 * 4097; id += 2) {
+            bitmap.add(id);
+            expected.add(id);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(4097);
+        assertThat(bitmap.toList()).isEqualTo(new ArrayList<>(expected));
+
+        bitmap.remove(CHUNK);
+        bitmap.remove(CHUNK + 2);
+        expected.remove(CHUNK);
+        expected.remove(CHUNK + 2);
+        assertThat(bitmap.cardinality()).isEqualTo(4095);
+        assertThat(bitmap.toList()).isEqualTo(new ArrayList<>(expected));
+        assertThat(bitmap.contains(CHUNK + 4)).isTrue();
+        assertThat(bitmap.contains(CHUNK + 3)).isFalse();
+    }
+
+    @Test
+    void setOperationsMatchReferenceSets() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            // 희소(배열)와 밀집(비트맵) 청크가 섞이도록 크기를 바꿔 가며 만든다
+            TreeSet<Long> a = randomIds(random, round % 2 == 0 ? 6000 : 300);
+            TreeSet<Long> b = randomIds(random, round % 3 == 0 ? 9000 : 500);
+            CrewIdBitmap left = CrewIdBitmap.of(a);
+            CrewIdBitmap right = CrewIdBitmap.of(b);
+
+            TreeSet<Long> and = new TreeSet<>(a);
+            and.retainAll(b);
+            TreeSet<Long> or = new TreeSet<>(a);
+            or.addAll(b);
+            TreeSet<Long> andNot = new TreeSet<>(a);
+            andNot.removeAll(b);
+
+            assertThat(left.and(right).toList()).isEqualTo(new ArrayList<>(and));
+            assertThat(right.and(left).toList()).isEqualTo(new ArrayList<>(and));
+            assertThat(left.or(right).toList()).isEqualTo(new ArrayList<>(or));
+            assertThat(left.andNot(right).toList()).isEqualTo(new ArrayList<>(andNot));
+            assertThat(left.or(right).cardinality()).isEqualTo(or.size());
+            // 연산은 피연산자를 바꾸지 않는다
+            assertThat(left.toList()).isEqualTo(new ArrayList<>(a));
+        }
+    }
+
+    @Test
+    void rejectsIdsOutsideIntRange() {
+        CrewIdBitmap bitmap = new CrewIdBitmap();
+        assertThat(CrewIdBitmap.supports(Integer.MAX_VALUE)).isTrue();
+        assertThat(CrewIdBitmap.supports(Integer.MAX_VALUE + 1L)).isFalse();
+        assertThat(CrewIdBitmap.supports(-1L)).isFalse();
+        assertThatThrownBy(() -> bitmap.add(Integer.MAX_VALUE + 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bitmap.add(-1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(bitmap.contains(Integer.MAX_VALUE + 1L)).isFalse();
+    }
+
+    @Test
+    void copyIsIndependent() {
+        CrewIdBitmap original = CrewIdBitmap.of(List.of(1L, 2L, CHUNK + 5));
+        CrewIdBitmap copy = original.copy();
+        copy.add(3L);
+        copy.remove(CHUNK + 5);
+
+        assertThat(original.toList()).containsExactly(1L, 2L, CHUNK + 5);
+        assertThat(copy.toList()).containsExactly(1L, 2L, 3L);
+        assertThat(new CrewIdBitmap().and(original).isEmpty()).isTrue();
+        assertThat(original.andNot(original).isEmpty()).isTrue();
+    }
+
+    // 청크 0 ~ 2 에 걸친 id. 앞쪽 절반 구간에 몰아 밀집 청크가 생기게 한다
+    private static TreeSet<Long> randomIds(Random random, int count) {
+        return random.ints(count, 0, (int) (3 * CHUNK))
+                .mapToObj(value -> random.nextBoolean() ? (long) value : (long) (value % 12000) + CHUNK)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
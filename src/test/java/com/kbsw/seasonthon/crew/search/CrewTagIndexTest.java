@@ -0,0 +1,102 @@
+package com.kbsw.seasonthon.crew.search;
+
+import com.kbsw.seasonthon.crew.enums.TagMatchMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CrewTagIndexTest {
+
+    // 청크(상위 16비트) 경계를 넘는 id 를 섞는다
+    private static final long FAR = (1L << 16) + 3;
+
+    private CrewTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CrewTagIndex();
+        index.rebuild(List.of(1L, 2L, 3L, 4L, FAR), Map.of(
+                1L, List.of("초보", "한강"),
+                2L, List.of("한강"),
+                3L, List.of("초보", "야간"),
+                FAR, List.of("초보", "한강", "야간")));
+    }
+
+    @Test
+    void orMatchesAnyTag() {
+        assertThat(index.match(List.of("한강", "야간"), TagMatchMode.OR, null).toList())
+                .containsExactly(1L, 2L, 3L, FAR);
+        assertThat(index.match(List.of("없는태그"), TagMatchMode.OR, null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void andMatchesAllTags() {
+        assertThat(index.match(List.of("초보", "한강"), TagMatchMode.AND, null).toList())
+                .containsExactly(1L, FAR);
+        assertThat(index.match(List.of("초보", "한강", "야간"), TagMatchMode.AND, null).toList())
+                .containsExactly(FAR);
+        assertThat(index.match(List.of("초보", "없는태그"), TagMatchMode.AND, null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void notMatchesCrewsWithoutAnyTag() {
+        // 태그가 없는 크루(4)도 포함된다
+        assertThat(index.match(List.of("한강"), TagMatchMode.NOT, null).toList()).containsExactly(3L, 4L);
+        assertThat(index.match(List.of("없는태그"), TagMatchMode.NOT, null).toList())
+                .containsExactly(1L, 2L, 3L, 4L, FAR);
+    }
+
+    @Test
+    void excludeTagsApplyToEveryMode() {
+        assertThat(index.match(List.of("초보"), TagMatchMode.OR, List.of("야간")).toList()).containsExactly(1L);
+        assertThat(index.match(null, TagMatchMode.OR, List.of("초보")).toList()).containsExactly(2L, 4L);
+        assertThat(index.match(List.of("야간"), TagMatchMode.NOT, List.of("한강")).toList()).containsExactly(4L);
+    }
+
+    @Test
+    void indexAndRemoveKeepBitmapsInSync() {
+        index.index(2L, List.of("야간"));
+        index.remove(FAR);
+        index.index(FAR + 10, List.of("한강"));
+
+        assertThat(index.match(List.of("한강"), TagMatchMode.OR, null).toList()).containsExactly(1L, FAR + 10);
+        assertThat(index.match(List.of("야간"), TagMatchMode.OR, null).toList()).containsExactly(2L, 3L);
+        assertThat(index.match(List.of("초보"), TagMatchMode.NOT, null).toList()).containsExactly(2L, 4L, FAR + 10);
+    }
+
+    @Test
+    void tagsCompareTrimmedAndCaseInsensitive() {
+        index.index(4L, List.of(" Night ", "RUN"));
+
+        assertThat(index.match(List.of("night"), TagMatchMode.OR, null).toList()).containsExactly(4L);
+        assertThat(index.match(List.of(" run", "NIGHT"), TagMatchMode.AND, null).toList()).containsExactly(4L);
+        assertThat(CrewTagIndex.normalizeAll(List.of(" Night ", "night", " "))).containsExactly("night");
+    }
+
+    @Test
+    void outOfRangeIdsAreSkippedAndReported() {
+        assertThat(index.isComplete()).isTrue();
+
+        long huge = Integer.MAX_VALUE + 1L;
+        index.index(huge, List.of("한강"));
+        assertThat(index.isComplete()).isFalse();
+        assertThat(index.match(List.of("한강"), TagMatchMode.OR, null).toList()).containsExactly(1L, 2L, FAR);
+
+        index.remove(huge);
+        assertThat(index.isComplete()).isTrue();
+    }
+
+    @Test
+    void tagModeParsing() {
+        assertThat(TagMatchMode.from(null)).isEqualTo(TagMatchMode.OR);
+        assertThat(TagMatchMode.from(" and ")).isEqualTo(TagMatchMode.AND);
+        assertThatThrownBy(() -> TagMatchMode.from("XOR"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tagMode");
+    }
+}
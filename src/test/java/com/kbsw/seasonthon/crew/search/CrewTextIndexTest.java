@@ -0,0 +1,53 @@
+package com.kbsw.seasonthon.crew.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrewTextIndexTest {
+
+    private final CrewTextIndex index = new CrewTextIndex();
+
+    @Test
+    void ranksByBm25AndRequiresEveryTerm() {
+        index.rebuild(List.of(
+                new CrewTextDocument(1L, "한강 러닝", "저녁에 뛰어요", "여의도"),
+                new CrewTextDocument(2L, "한강 러닝 한강 러닝", "한강 야경", "반포"),
+                new CrewTextDocument(3L, "공원 산책", "한강 근처", "망원"),
+                new CrewTextDocument(4L, "트랙 러닝", "인터벌", "잠실")));
+
+        assertThat(index.search("한강 러닝", 10)).containsExactly(2L, 1L);
+        assertThat(index.search("한강", 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("한강", 10).get(0)).isEqualTo(2L);
+        assertThat(index.search("수영", 10)).isEmpty();
+    }
+
+    @Test
+    void limitKeepsTopRankedHits() {
+        // 제목의 '러닝' 횟수가 많을수록 상위 (문서 길이가 같도록 나머지는 다른 단어로 채운다)
+        index.rebuild(LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> new CrewTextDocument(id, ("러닝 ".repeat((int) id) + "산책 ".repeat(5 - (int) id)).trim(), null, null))
+                .collect(Collectors.toList()));
+
+        // 잘렸는지 확인하려면 상한 + 1 건을 요청한다 (CrewService 참고)
+        assertThat(index.search("러닝", 3)).containsExactly(5L, 4L, 3L);
+        assertThat(index.search("러닝", 6)).hasSize(5);
+    }
+
+    @Test
+    void reindexAndRemoveUpdatePostings() {
+        index.rebuild(List.of(new CrewTextDocument(1L, "한강 러닝", null, null)));
+        index.index(new CrewTextDocument(1L, "공원 산책", null, null));
+        index.index(new CrewTextDocument(2L, "한강 러닝", null, null));
+
+        assertThat(index.search("한강", 10)).containsExactly(2L);
+        assertThat(index.search("산책", 10)).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(index.search("한강", 10)).isEmpty();
+    }
+}
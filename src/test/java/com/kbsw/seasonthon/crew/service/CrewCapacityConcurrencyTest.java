@@ -0,0 +1,289 @@
+package com.kbsw.seasonthon.crew.service;
+
+import com.kbsw.seasonthon.crew.domain.Crew;
+import com.kbsw.seasonthon.crew.domain.CrewParticipant;
+import com.kbsw.seasonthon.crew.dto.request.CrewUpdateRequest;
+import com.kbsw.seasonthon.crew.dto.request.ParticipantApprovalRequest;
+import com.kbsw.seasonthon.crew.dto.request.ParticipantBatchApprovalRequest;
+import com.kbsw.seasonthon.crew.dto.response.CrewBatchApprovalResponse;
+import com.kbsw.seasonthon.crew.enums.CrewStatus;
+import com.kbsw.seasonthon.crew.enums.ParticipantStatus;
+import com.kbsw.seasonthon.crew.enums.SafetyLevel;
+import com.kbsw.seasonthon.crew.repository.CrewParticipantRepository;
+import com.kbsw.seasonthon.crew.repository.CrewRepository;
+import com.kbsw.seasonthon.security.jwt.enums.Role;
+import com.kbsw.seasonthon.user.entity.User;
+import com.kbsw.seasonthon.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:capacity;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "spring.jpa.show-sql=false",
+    "crew.lifecycle.enabled=false",
+    "GOOGLE_CLIENT_ID=test", "GOOGLE_CLIENT_SECRET=test",
+    "NAVER_CLIENT_ID=test", "NAVER_CLIENT_SECRET=test",
+    "KAKAO_CLIENT_ID=test", "KAKAO_CLIENT_SECRET=test",
+    "BASE_URL=http://localhost:8080"
+})
+@ActiveProfiles("test")
+class CrewCapacityConcurrencyTest {
+
+    private static final int THREADS = 32;
+    // 1,000 건 동시 신청 처리 시간 상한 (원자적 자리 확보 경로가 락 대기/재시도로 직렬화되면 넘는다)
+    private static final Duration APPLY_BURST_LIMIT = Duration.ofSeconds(30);
+
+    @Autowired
+    private CrewService crewService;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private CrewParticipantRepository crewParticipantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void parallelAppliesKeepOneApplicationPerUser() throws Exception {
+        // 500 명이 두 번씩 (더블 탭) 동시에 신청 -> 1,000 요청
+        User host = userRepository.save(user("apply-host"));
+        Crew crew = crewRepository.save(crew(host, 10));
+        List<User> users = userRepository.saveAll(IntStream.range(0, 500)
+            .mapToObj(i -> user("apply-user-" + i))
+            .collect(Collectors.toList()));
+        List<User> requests = new ArrayList<>(users);
+        requests.addAll(users);
+
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Duration elapsed = runConcurrently(requests, user -> {
+            try {
+                crewService.applyToCrew(crew.getId(), user);
+                applied.incrementAndGet();
+            } catch (ResponseStatusException e) {
+                if (HttpStatus.BAD_REQUEST.equals(e.getStatusCode())) {
+                    duplicated.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+            }
+        });
+
+        List<CrewParticipant> participants = crewParticipantRepository.findByCrew(crew);
+        assertThat(failed.get()).isZero();
+        assertThat(applied.get()).isEqualTo(500);
+        assertThat(duplicated.get()).isEqualTo(500);
+        assertThat(participants).hasSize(500);
+        assertThat(participants.stream().map(p -> p.getUser().getId()).distinct().count()).isEqualTo(500);
+        assertThat(elapsed).isLessThan(APPLY_BURST_LIMIT);
+    }
+
+    @Test
+    void parallelApprovalsNeverExceedCapacity() throws Exception {
+        int capacity = 10;
+        User host = userRepository.save(user("approve-host"));
+        Crew crew = crewRepository.save(crew(host, capacity));
+        List<User> users = userRepository.saveAll(IntStream.range(0, 100)
+            .mapToObj(i -> user("approve-user-" + i))
+            .collect(Collectors.toList()));
+        users.forEach(user -> crewService.applyToCrew(crew.getId(), user));
+
+        ParticipantApprovalRequest approve = new ParticipantApprovalRequest();
+        approve.setApprove(true);
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        runConcurrently(users, user -> {
+            try {
+                crewService.approveParticipant(crew.getId(), user.getId(), approve, host);
+                approved.incrementAndGet();
+            } catch (ResponseStatusException e) {
+                full.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+            }
+        });
+
+        Crew reloaded = crewRepository.findById(crew.getId()).orElseThrow();
+        long approvedRows = crewParticipantRepository.findByCrewAndStatus(crew, ParticipantStatus.APPROVED).size();
+        assertThat(failed.get()).isZero();
+        assertThat(approved.get()).isEqualTo(capacity);
+        assertThat(full.get()).isEqualTo(users.size() - capacity);
+        assertThat(reloaded.getApprovedCount()).isEqualTo(capacity);
+        assertThat(approvedRows).isEqualTo(capacity);
+    }
+
+    @Test
+    void maxParticipantsCannotDropBelowApprovedCount() {
+        User host = userRepository.save(user("shrink-host"));
+        Crew crew = crewRepository.save(crew(host, 3));
+        List<User> users = approveAll(crew, host, "shrink-user-", 3);
+
+        CrewUpdateRequest shrink = new CrewUpdateRequest();
+        shrink.setMaxParticipants(2);
+        assertThatThrownBy(() -> crewService.updateCrew(crew.getId(), shrink, host))
+            .isInstanceOf(ResponseStatusException.class)
+            .hasMessageContaining("승인 인원");
+
+        shrink.setMaxParticipants(users.size());
+        crewService.updateCrew(crew.getId(), shrink, host);
+        assertThat(crewRepository.findById(crew.getId()).orElseThrow().getMaxParticipants()).isEqualTo(3);
+    }
+
+    @Test
+    void overfullCrewCanStillRejectButNotApprove() {
+        // 정원 검사 이전에 저장된 데이터처럼 승인 인원이 정원을 넘은 크루
+        User host = userRepository.save(user("overfull-host"));
+        Crew crew = crewRepository.save(crew(host, 3));
+        User waiting = userRepository.save(user("overfull-waiting"));
+        crewService.applyToCrew(crew.getId(), waiting);
+        List<User> approved = approveAll(crew, host, "overfull-user-", 3);
+        Crew shrunk = crewRepository.findById(crew.getId()).orElseThrow();
+        shrunk.updateMaxParticipants(1);
+        crewRepository.save(shrunk);
+
+        // 거절 1명으로 한 자리가 비어도 정원(1)까지는 여전히 2명 초과 -> 승인은 반영되지 않는다
+        CrewBatchApprovalResponse response = crewService.approveParticipants(crew.getId(),
+            batch(decision(approved.get(0), false), decision(waiting, true)), host);
+
+        assertThat(response.getApprovedCount()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getStatus()).isEqualTo(ParticipantStatus.REJECTED);
+        assertThat(response.getResults().get(1).getStatus()).isEqualTo(ParticipantStatus.APPLIED);
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("정원이 가득 찬 크루입니다.");
+        assertThat(crewRepository.findById(crew.getId()).orElseThrow().getApprovedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void capacityClosedCrewReopensWhenSlotFrees() {
+        User host = userRepository.save(user("reopen-host"));
+        Crew crew = crewRepository.save(crew(host, 2));
+        List<User> approved = approveAll(crew, host, "reopen-user-", 2);
+        transactionTemplate.executeWithoutResult(status ->
+            crewRepository.closeFullIfOpen(List.of(crew.getId()), LocalDateTime.now()));
+        assertThat(crewRepository.findById(crew.getId()).orElseThrow().getStatus()).isEqualTo(CrewStatus.CLOSED);
+
+        // 승인 취소로 자리가 나면 시작 전이므로 다시 모집중
+        ParticipantApprovalRequest reject = new ParticipantApprovalRequest();
+        reject.setApprove(false);
+        crewService.approveParticipant(crew.getId(), approved.get(0).getId(), reject, host);
+
+        Crew reopened = crewRepository.findById(crew.getId()).orElseThrow();
+        assertThat(reopened.getStatus()).isEqualTo(CrewStatus.OPEN);
+        assertThat(reopened.getClosedByCapacity()).isFalse();
+        assertThat(reopened.getApprovedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void startTimeClosedCrewStaysClosedWhenSlotFrees() {
+        User host = userRepository.save(user("closed-host"));
+        Crew crew = crewRepository.save(crew(host, 2));
+        List<User> approved = approveAll(crew, host, "closed-user-", 2);
+        transactionTemplate.executeWithoutResult(status ->
+            crewRepository.updateStatusIfOpen(List.of(crew.getId()), CrewStatus.CLOSED, LocalDateTime.now()));
+
+        crewService.approveParticipants(crew.getId(), batch(decision(approved.get(0), false)), host);
+
+        assertThat(crewRepository.findById(crew.getId()).orElseThrow().getStatus()).isEqualTo(CrewStatus.CLOSED);
+    }
+
+    private List<User> approveAll(Crew crew, User host, String prefix, int count) {
+        List<User> users = userRepository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> user(prefix + i))
+            .collect(Collectors.toList()));
+        users.forEach(user -> crewService.applyToCrew(crew.getId(), user));
+        crewService.approveParticipants(crew.getId(),
+            batch(users.stream().map(user -> decision(user, true)).toArray(ParticipantBatchApprovalRequest.Decision[]::new)), host);
+        return users;
+    }
+
+    private ParticipantBatchApprovalRequest batch(ParticipantBatchApprovalRequest.Decision... decisions) {
+        ParticipantBatchApprovalRequest request = new ParticipantBatchApprovalRequest();
+        request.setDecisions(List.of(decisions));
+        return request;
+    }
+
+    private ParticipantBatchApprovalRequest.Decision decision(User user, boolean approve) {
+        ParticipantBatchApprovalRequest.Decision decision = new ParticipantBatchApprovalRequest.Decision();
+        decision.setUserId(user.getId());
+        decision.setApprove(approve);
+        return decision;
+    }
+
+    // 모든 작업이 시작 신호를 기다렸다가 동시에 실행된다 (2분 안에 끝나지 않으면 실패), 시작 신호부터 전부 끝날 때까지의 시간 반환
+    private <T> Duration runConcurrently(List<T> items, Consumer<T> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(items.size());
+        for (T item : items) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.accept(item);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private User user(String username) {
+        return User.builder()
+            .username(username)
+            .email(username + "@example.com")
+            .role(Role.USER)
+            .build();
+    }
+
+    private Crew crew(User host, int capacity) {
+        return Crew.builder()
+            .title("동시성 테스트 크루")
+            .host(host)
+            .maxParticipants(capacity)
+            .routeId("route_test")
+            .type("safe")
+            .distanceKm(5.0)
+            .safetyScore(90)
+            .safetyLevel(SafetyLevel.SAFE)
+            .durationMin(30)
+            .startTime(LocalDateTime.now().plusDays(1))
+            .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.kbsw.seasonthon.crew.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaceParserTest {
+
+    @Test
+    void parsesMinuteSecondFormats() {
+        assertThat(PaceParser.toSecondsPerKm("6'00\"/km")).isEqualTo(360);
+        assertThat(PaceParser.toSecondsPerKm("5'30\"")).isEqualTo(330);
+        assertThat(PaceParser.toSecondsPerKm("5′30″")).isEqualTo(330);
+        assertThat(PaceParser.toSecondsPerKm("6:00")).isEqualTo(360);
+        assertThat(PaceParser.toSecondsPerKm(" 5:30/km ")).isEqualTo(330);
+        assertThat(PaceParser.toSecondsPerKm("5분 30초")).isEqualTo(330);
+        assertThat(PaceParser.toSecondsPerKm("7분")).isEqualTo(420);
+    }
+
+    @Test
+    void bareNumbersUpToThirtyAreMinutesAndLargerAreSeconds() {
+        assertThat(PaceParser.toSecondsPerKm("6")).isEqualTo(360);
+        assertThat(PaceParser.toSecondsPerKm("5.5")).isEqualTo(330);
+        assertThat(PaceParser.toSecondsPerKm("30")).isEqualTo(1800);
+        assertThat(PaceParser.toSecondsPerKm("360")).isEqualTo(360);
+        // 31 은 초로 읽혀 허용 범위(1'00" ~ 60'00") 밖이다
+        assertThat(PaceParser.toSecondsPerKm("31")).isNull();
+    }
+
+    @Test
+    void convertsPerMileToPerKm() {
+        assertThat(PaceParser.toSecondsPerKm("8'00\"/mi")).isEqualTo(298);
+    }
+
+    @Test
+    void garbageAndOutOfRangeReturnNull() {
+        assertThat(PaceParser.toSecondsPerKm(null)).isNull();
+        assertThat(PaceParser.toSecondsPerKm(" ")).isNull();
+        assertThat(PaceParser.toSecondsPerKm("빠르게")).isNull();
+        assertThat(PaceParser.toSecondsPerKm("6'75\"")).isNull();
+        assertThat(PaceParser.toSecondsPerKm("0:30")).isNull();
+        assertThat(PaceParser.toSecondsPerKm("99:00")).isNull();
+    }
+
+    @Test
+    void formatRoundTrips() {
+        assertThat(PaceParser.format(330)).isEqualTo("5'30\"/km");
+        assertThat(PaceParser.toSecondsPerKm(PaceParser.format(405))).isEqualTo(405);
+    }
+}
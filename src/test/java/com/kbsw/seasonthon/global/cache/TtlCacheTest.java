@@ -0,0 +1,111 @@
+package com.kbsw.seasonthon.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TtlCacheTest {
+
+    private final TtlCache<String, String> cache = new TtlCache<>("test", Duration.ofMinutes(1), 10);
+
+    @Test
+    void cachesLoadedValue() {
+        assertThat(cache.get("k", () -> "v1")).isEqualTo("v1");
+        assertThat(cache.get("k", () -> "v2")).isEqualTo("v1");
+        assertThat(cache.stats().hits()).isEqualTo(1L);
+        assertThat(cache.stats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void keyInvalidatedDuringLoadIsNotStored() {
+        // 로딩 중에 같은 키가 무효화되면 로딩 결과(무효화 이전 데이터)는 저장하지 않는다
+        assertThat(cache.get("k", () -> {
+            cache.invalidate("k");
+            return "stale";
+        })).isEqualTo("stale");
+
+        assertThat(cache.getIfPresent("k")).isNull();
+        assertThat(cache.get("k", () -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.getIfPresent("k")).isEqualTo("fresh");
+    }
+
+    @Test
+    void otherKeyInvalidationDoesNotDropLoad() {
+        cache.get("k", () -> {
+            cache.invalidate("other");
+            return "v";
+        });
+
+        assertThat(cache.getIfPresent("k")).isEqualTo("v");
+    }
+
+    @Test
+    void bulkInvalidationDuringLoadIsNotStored() {
+        cache.put("kept", "x");
+        cache.get("k", () -> {
+            cache.invalidateIf((key, value) -> key.equals("nothing"));
+            return "stale";
+        });
+        assertThat(cache.getIfPresent("k")).isNull();
+        // 조건에 맞지 않는 기존 항목은 그대로 남는다
+        assertThat(cache.getIfPresent("kept")).isEqualTo("x");
+
+        cache.get("k", () -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+        assertThat(cache.getIfPresent("k")).isNull();
+    }
+
+    @Test
+    void slowStaleLoadDoesNotOverwriteNewerLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = executor.submit(() -> cache.get("k", () -> {
+                loading.countDown();
+                await(release);
+                return "stale";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 느린 로딩 도중 무효화 -> 새 로딩이 먼저 끝나 저장된다
+            cache.invalidate("k");
+            assertThat(cache.get("k", () -> "fresh")).isEqualTo("fresh");
+
+            release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+            assertThat(cache.getIfPresent("k")).isEqualTo("fresh");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLoadDoesNotLeaveKeyLoading() {
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        cache.invalidate("k");
+        assertThat(cache.get("k", () -> "v")).isEqualTo("v");
+        assertThat(cache.getIfPresent("k")).isEqualTo("v");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
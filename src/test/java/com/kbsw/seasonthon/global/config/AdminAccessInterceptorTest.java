@@ -0,0 +1,65 @@
+package com.kbsw.seasonthon.global.config;
+
+import com.kbsw.seasonthon.security.jwt.enums.Role;
+import com.kbsw.seasonthon.security.oauth2.principal.PrincipalDetails;
+import com.kbsw.seasonthon.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminAccessInterceptorTest {
+
+    private final AdminAccessInterceptor interceptor = new AdminAccessInterceptor();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/crews/cache-stats");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void anonymousIsUnauthorized() {
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, new Object()))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+
+    @Test
+    void nonAdminIsForbidden() {
+        login(Role.USER);
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, new Object()))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+    }
+
+    @Test
+    void adminAndPreflightPass() throws Exception {
+        MockHttpServletRequest preflight = new MockHttpServletRequest("OPTIONS", "/api/admin/crews/cache-stats");
+        preflight.addHeader(HttpHeaders.ORIGIN, "http://localhost:3000");
+        preflight.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+        assertThat(interceptor.preHandle(preflight, response, new Object())).isTrue();
+
+        login(Role.ADMIN);
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+    }
+
+    private void login(Role role) {
+        PrincipalDetails principal = new PrincipalDetails(User.builder()
+            .username("admin-check")
+            .email("admin-check@example.com")
+            .role(role)
+            .build());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
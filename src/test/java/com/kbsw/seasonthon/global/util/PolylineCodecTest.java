@@ -0,0 +1,61 @@
+package com.kbsw.seasonthon.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PolylineCodecTest {
+
+    @Test
+    void roundTripsCoordinatesIncludingNegatives() {
+        double[] coordinates = {37.5665, 126.978, -33.8688, 151.2093, 0.0, -0.000001, -90.0, -180.0, 90.0, 180.0};
+
+        assertThat(PolylineCodec.decode(PolylineCodec.encode(coordinates))).containsExactly(coordinates);
+    }
+
+    @Test
+    void roundsCoordinatesBeyondSixDecimals() {
+        double[] coordinates = {37.56651234, 126.97804449, -37.5665006, -126.9780001};
+
+        double[] decoded = PolylineCodec.decode(PolylineCodec.encode(coordinates));
+
+        assertThat(decoded).containsExactly(new double[]{37.566512, 126.978044, -37.566501, -126.978}, within(1e-9));
+    }
+
+    @Test
+    void distinguishesEmptyFromMissing() {
+        assertThat(PolylineCodec.encode(new double[0])).isEmpty();
+        assertThat(PolylineCodec.encodeLatLon(List.of())).isEmpty();
+        assertThat(PolylineCodec.encode(null)).isNull();
+        assertThat(PolylineCodec.encodeLatLon(null)).isNull();
+        assertThat(PolylineCodec.decode("")).isEmpty();
+        assertThat(PolylineCodec.decode(null)).isEmpty();
+    }
+
+    @Test
+    void convertsLatLonStrings() {
+        List<String> points = List.of("37.5665,126.978", " -33.8688 , 151.2093 ");
+
+        String polyline = PolylineCodec.encodeLatLon(points);
+
+        assertThat(PolylineCodec.toLatLonStrings(PolylineCodec.decode(polyline)))
+            .containsExactly("37.5665,126.978", "-33.8688,151.2093");
+    }
+
+    @Test
+    void rejectsMalformedPoints() {
+        assertThatThrownBy(() -> PolylineCodec.parseLatLon(List.of("37.5665")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PolylineCodec.parseLatLon(List.of("37.5665,abc")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PolylineCodec.parseLatLon(List.of("91.0,126.978")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PolylineCodec.parseLatLon(Arrays.asList("37.5,127.0", null)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.kbsw.seasonthon.route.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kbsw.seasonthon.route.dto.response.RouteResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteCatalogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeOpenFindRoundTrip() throws Exception {
+        Path file = dir.resolve("routes.src");
+        RouteCatalog.write(file, List.of(
+            entry("river_2", "safe", 3200f, 20, 81, new int[]{37_500_000, 37_510_000}, new int[]{126_900_000, -126_910_000}),
+            entry("캠퍼스_1", "normal", 5100f, 32, 64, new int[]{36_350_400}, new int[]{127_384_500}),
+            entry("river_10", "safe", 0f, 0, 0, new int[0], new int[0])));
+
+        RouteCatalog catalog = RouteCatalog.open(file);
+
+        assertThat(catalog.size()).isEqualTo(3);
+        RouteResponse river = catalog.find("river_2");
+        assertThat(river.getRouteId()).isEqualTo("river_2");
+        assertThat(river.getType()).isEqualTo("safe");
+        assertThat(river.getDistanceKm()).isEqualTo(3.2);
+        assertThat(river.getDurationMin()).isEqualTo(20);
+        assertThat(river.getSafetyScore()).isEqualTo(81);
+        assertThat(river.getWaypoints()).containsExactly(List.of(37.5, 126.9), List.of(37.51, -126.91));
+
+        RouteResponse campus = catalog.find("캠퍼스_1");
+        assertThat(campus.getType()).isEqualTo("normal");
+        assertThat(campus.getWaypoints()).containsExactly(List.of(36.3504, 127.3845));
+        assertThat(catalog.find("river_10").getWaypoints()).isEmpty();
+    }
+
+    @Test
+    void missingIdReturnsNull() throws Exception {
+        Path file = dir.resolve("routes.src");
+        RouteCatalog.write(file, List.of(entry("b", "safe", 1000f, 6, 70, new int[]{1}, new int[]{2})));
+
+        RouteCatalog catalog = RouteCatalog.open(file);
+
+        assertThat(catalog.find("a")).isNull();
+        assertThat(catalog.find("c")).isNull();
+        assertThat(catalog.find("b_")).isNull();
+        assertThat(catalog.find(null)).isNull();
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws Exception {
+        Path file = dir.resolve("routes.src");
+        RouteCatalog.write(file, List.of(
+            entry("a", "safe", 1000f, 6, 70, new int[]{1, 2, 3}, new int[]{4, 5, 6}),
+            entry("b", "safe", 1000f, 6, 70, new int[]{1, 2, 3}, new int[]{4, 5, 6})));
+        byte[] bytes = Files.readAllBytes(file);
+
+        for (int length : new int[]{0, 10, 30, bytes.length / 2, bytes.length - 1}) {
+            Path truncated = dir.resolve("truncated-" + length + ".src");
+            Files.write(truncated, Arrays.copyOf(bytes, length));
+
+            assertThatThrownBy(() -> RouteCatalog.open(truncated)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsCorruptBlockOffset() throws Exception {
+        Path file = dir.resolve("routes.src");
+        RouteCatalog.write(file, List.of(entry("a", "safe", 1000f, 6, 70, new int[]{1}, new int[]{2})));
+        byte[] bytes = Files.readAllBytes(file);
+        // 첫 색인 항목의 blockOffset (헤더 24바이트 + 8) 을 파일 밖으로
+        bytes[24 + 8 + 3] = 0x7f;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> RouteCatalog.open(file)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void builderRequiresSafetyScore() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        String withScore = """
+            {"type": "FeatureCollection", "features": [{"type": "Feature",
+              "properties": {"routeId": "loop", "safetyScore": 77},
+              "geometry": {"type": "LineString", "coordinates": [[126.9, 37.5], [126.9, 37.51]]}}]}
+            """;
+        String withoutScore = withScore.replace(", \"safetyScore\": 77", "");
+
+        List<RouteCatalog.Entry> entries = RouteCatalogBuilder.read(mapper.readTree(withScore), null);
+
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).safetyScore()).isEqualTo(77);
+        assertThat(entries.get(0).latE6()).containsExactly(37_500_000, 37_510_000);
+        assertThat(entries.get(0).durationMin()).isEqualTo(7);
+        assertThatThrownBy(() -> RouteCatalogBuilder.read(mapper.readTree(withoutScore), null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RouteCatalog.Entry entry(String routeId, String type, float meters, int durationMin, int safetyScore,
+                                            int[] latE6, int[] lonE6) {
+        return new RouteCatalog.Entry(routeId, type, meters, durationMin, safetyScore, latE6, lonE6);
+    }
+}
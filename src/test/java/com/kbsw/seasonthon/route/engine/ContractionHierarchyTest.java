@@ -0,0 +1,201 @@
+package com.kbsw.seasonthon.route.engine;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ContractionHierarchyTest {
+
+    private static final double SAFETY_WEIGHT = 2.0;
+
+    @Test
+    void chAndAStarMatchDijkstraOnRandomGraphs() {
+        Random random = new Random(7);
+        for (int round = 0; round < 30; round++) {
+            RoadGraph graph = randomGraph(random, 5 + random.nextInt(40), 1 + random.nextInt(4));
+            Router ch = ContractionHierarchy.build(graph, SAFETY_WEIGHT);
+            Router astar = new AStarRouter(graph, SAFETY_WEIGHT);
+
+            for (int from = 0; from < graph.nodeCount(); from++) {
+                double[] expected = dijkstra(graph, from);
+                for (int to = 0; to < graph.nodeCount(); to++) {
+                    RoutePath chPath = ch.route(from, to);
+                    RoutePath astarPath = astar.route(from, to);
+                    if (Double.isInfinite(expected[to])) {
+                        assertThat(chPath).isNull();
+                        assertThat(astarPath).isNull();
+                        continue;
+                    }
+                    assertValidPath(graph, chPath, from, to);
+                    assertValidPath(graph, astarPath, from, to);
+                    assertThat(chPath.cost()).isEqualTo(expected[to], tolerance(expected[to]));
+                    assertThat(astarPath.cost()).isEqualTo(expected[to], tolerance(expected[to]));
+                }
+            }
+        }
+    }
+
+    @Test
+    void concurrentQueriesShareBoundedSearchStates() throws Exception {
+        RoadGraph graph = randomGraph(new Random(11), 60, 3);
+        ContractionHierarchy ch = ContractionHierarchy.build(graph, SAFETY_WEIGHT);
+        double[][] expected = new double[graph.nodeCount()][];
+        for (int from = 0; from < graph.nodeCount(); from++) {
+            expected[from] = dijkstra(graph, from);
+        }
+
+        // 풀 크기(CPU 수)보다 많은 스레드가 동시에 질의해도 결과가 섞이지 않는다
+        int threads = Runtime.getRuntime().availableProcessors() * 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    int mismatches = 0;
+                    for (int i = 0; i < 500; i++) {
+                        int from = random.nextInt(graph.nodeCount());
+                        int to = random.nextInt(graph.nodeCount());
+                        RoutePath path = ch.route(from, to);
+                        double cost = path != null ? path.cost() : Double.POSITIVE_INFINITY;
+                        if (Math.abs(cost - expected[from][to]) > 1e-6 * Math.max(1, expected[from][to])
+                                && !(Double.isInfinite(cost) && Double.isInfinite(expected[from][to]))) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertThat(future.get()).isEqualTo(0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void searchStatePoolReusesUpToCapacity() {
+        int[] created = {0};
+        SearchStatePool<int[]> pool = new SearchStatePool<>(2, () -> new int[]{created[0]++});
+
+        int[] first = pool.acquire();
+        int[] second = pool.acquire();
+        pool.release(first);
+        int[] third = pool.acquire();
+
+        assertThat(created[0]).isEqualTo(2);
+        assertThat(third).isSameAs(first);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    private static void assertValidPath(RoadGraph graph, RoutePath path, int from, int to) {
+        assertThat(path).isNotNull();
+        int[] nodes = path.nodes();
+        assertThat(nodes[0]).isEqualTo(from);
+        assertThat(nodes[nodes.length - 1]).isEqualTo(to);
+        for (int i = 0; i + 1 < nodes.length; i++) {
+            assertThat(graph.findEdge(nodes[i], nodes[i + 1], SAFETY_WEIGHT)).isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    // 비용 허용 오차 (상대 1e-9, 간선 비용 합산 순서 차이)
+    private static Offset<Double> tolerance(double cost) {
+        return within(1e-9 * Math.max(1, cost));
+    }
+
+    // 기준 Dijkstra (간선 비용이 같으면 어떤 경로든 비용만 비교)
+    private static double[] dijkstra(RoadGraph graph, int from) {
+        double[] cost = new double[graph.nodeCount()];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        cost[from] = 0;
+        PriorityQueue<double[]> queue = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+        queue.add(new double[]{0, from});
+        while (!queue.isEmpty()) {
+            double[] top = queue.poll();
+            int node = (int) top[1];
+            if (top[0] > cost[node]) {
+                continue;
+            }
+            for (int e = graph.edgeStart(node); e < graph.edgeEnd(node); e++) {
+                int next = graph.edgeTarget(e);
+                double nextCost = top[0] + graph.edgeCost(e, SAFETY_WEIGHT);
+                if (nextCost < cost[next]) {
+                    cost[next] = nextCost;
+                    queue.add(new double[]{nextCost, next});
+                }
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * 서울 근처 0.02도 안의 임의 그래프
+     * 간선 길이는 직선거리 이상(A* 휴리스틱 조건)이며, 일방통행/평행 간선/자기 간선/고립 노드가 섞인다.
+     */
+    static RoadGraph randomGraph(Random random, int nodeCount, int degree) {
+        int[] latE6 = new int[nodeCount];
+        int[] lonE6 = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            latE6[i] = 37_550_000 + random.nextInt(20_000);
+            lonE6[i] = 126_970_000 + random.nextInt(20_000);
+        }
+        RoadGraph positions = new RoadGraph(latE6, lonE6, new int[nodeCount + 1], new int[0], new float[0], new float[0]);
+
+        List<List<int[]>> adjacency = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            adjacency.add(new ArrayList<>());
+        }
+        List<Float> lengths = new ArrayList<>();
+        List<Float> safeties = new ArrayList<>();
+        for (int u = 0; u < nodeCount; u++) {
+            if (u == nodeCount - 1 && nodeCount > 5) {
+                continue; // 직접 만드는 간선이 없는 노드 (다른 노드의 역방향 간선으로만 이어질 수 있다)
+            }
+            for (int d = 0; d < degree; d++) {
+                int v = random.nextInt(nodeCount);
+                float length = (float) (positions.distanceMeters(u, v) * (1 + random.nextDouble()) + 1);
+                float safety = random.nextFloat();
+                addEdge(adjacency, lengths, safeties, u, v, length, safety);
+                if (random.nextInt(4) != 0) {
+                    addEdge(adjacency, lengths, safeties, v, u, length, safety);
+                }
+            }
+        }
+
+        int[] edgeStart = new int[nodeCount + 1];
+        int[] edgeTarget = new int[lengths.size()];
+        float[] edgeLength = new float[lengths.size()];
+        float[] edgeSafety = new float[lengths.size()];
+        int e = 0;
+        for (int u = 0; u < nodeCount; u++) {
+            for (int[] edge : adjacency.get(u)) {
+                edgeTarget[e] = edge[0];
+                edgeLength[e] = lengths.get(edge[1]);
+                edgeSafety[e] = safeties.get(edge[1]);
+                e++;
+            }
+            edgeStart[u + 1] = e;
+        }
+        return new RoadGraph(latE6, lonE6, edgeStart, edgeTarget, edgeLength, edgeSafety);
+    }
+
+    private static void addEdge(List<List<int[]>> adjacency, List<Float> lengths, List<Float> safeties,
+                                int u, int v, float length, float safety) {
+        adjacency.get(u).add(new int[]{v, lengths.size()});
+        lengths.add(length);
+        safeties.add(safety);
+    }
+}
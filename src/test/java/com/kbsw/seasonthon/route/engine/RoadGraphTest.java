@@ -0,0 +1,70 @@
+package com.kbsw.seasonthon.route.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoadGraphTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeReadRoundTrip() throws Exception {
+        RoadGraph graph = ContractionHierarchyTest.randomGraph(new Random(3), 25, 3);
+        Path file = dir.resolve("graph.srg");
+        graph.write(file);
+
+        RoadGraph read = RoadGraph.read(file);
+
+        assertThat(read.nodeCount()).isEqualTo(graph.nodeCount());
+        assertThat(read.edgeCount()).isEqualTo(graph.edgeCount());
+        for (int node = 0; node < graph.nodeCount(); node++) {
+            assertThat(read.lat(node)).isEqualTo(graph.lat(node));
+            assertThat(read.lon(node)).isEqualTo(graph.lon(node));
+            assertThat(read.edgeStart(node)).isEqualTo(graph.edgeStart(node));
+            assertThat(read.edgeEnd(node)).isEqualTo(graph.edgeEnd(node));
+        }
+        for (int edge = 0; edge < graph.edgeCount(); edge++) {
+            assertThat(read.edgeTarget(edge)).isEqualTo(graph.edgeTarget(edge));
+            assertThat(read.edgeLength(edge)).isEqualTo(graph.edgeLength(edge));
+            assertThat(read.edgeSafety(edge)).isEqualTo(graph.edgeSafety(edge));
+        }
+        assertThat(read.nearestNode(graph.lat(7), graph.lon(7), 1)).isEqualTo(7);
+    }
+
+    @Test
+    void emptyGraphRoundTrip() throws Exception {
+        RoadGraph graph = new RoadGraph(new int[0], new int[0], new int[1], new int[0], new float[0], new float[0]);
+        Path file = dir.resolve("empty.srg");
+        graph.write(file);
+
+        RoadGraph read = RoadGraph.read(file);
+
+        assertThat(read.nodeCount()).isEqualTo(0);
+        assertThat(read.edgeCount()).isEqualTo(0);
+        assertThat(read.nearestNode(37.5, 127.0, 1000)).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsOtherFiles() throws Exception {
+        Path file = dir.resolve("not-a-graph.srg");
+        Files.write(file, new byte[64]);
+        assertThatThrownBy(() -> RoadGraph.read(file)).isInstanceOf(IOException.class);
+
+        RoadGraph graph = ContractionHierarchyTest.randomGraph(new Random(5), 6, 2);
+        Path truncated = dir.resolve("truncated.srg");
+        graph.write(truncated);
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThatThrownBy(() -> RoadGraph.read(truncated)).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.kbsw.seasonthon.route.safety;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SafetyRasterTest {
+
+    // 셀 한 칸 = 0.001도, 격자 원점 (0, 0)
+    private static final int CELL_E6 = 1_000;
+    private static final double CELL = 0.001;
+    private static final int NO_DATA_SCORE = 40;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void horizontalSegmentWeightsCellsByLength() throws Exception {
+        SafetyRaster raster = raster(1, 4, 10, 20, 30, 40);
+
+        // 열 0.5 ~ 3.5: 10 * 0.5 + 20 + 30 + 40 * 0.5 = 75 / 3
+        assertThat(raster.segmentScore(lat(0.5), lon(0.5), lat(0.5), lon(3.5))).isEqualTo(25.0, within(1e-6));
+        assertThat(raster.segmentScore(lat(0.5), lon(3.5), lat(0.5), lon(0.5))).isEqualTo(25.0, within(1e-6));
+    }
+
+    @Test
+    void verticalSegmentWeightsCellsByLength() throws Exception {
+        SafetyRaster raster = raster(4, 1, 10, 20, 30, 40);
+
+        assertThat(raster.segmentScore(lat(0.5), lon(0.5), lat(3.5), lon(0.5))).isEqualTo(25.0, within(1e-6));
+        assertThat(raster.segmentScore(lat(1.5), lon(0.5), lat(1.75), lon(0.5))).isEqualTo(20.0, within(1e-6));
+    }
+
+    @Test
+    void diagonalSegmentVisitsEachCrossedCell() throws Exception {
+        // 행 0: 10, 50 / 행 1: 90, 30
+        SafetyRaster raster = raster(2, 2, 10, 50, 90, 30);
+
+        // 열 0 -> 2, 행 0.25 -> 1.25: (0,0) t 0~0.5, (0,1) t 0.5~0.75, (1,1) t 0.75~1
+        assertThat(raster.segmentScore(lat(0.25), lon(0), lat(1.25), lon(2))).isEqualTo(25.0, within(1e-6));
+        // 반대 방향도 같은 셀을 같은 길이로 지난다
+        assertThat(raster.segmentScore(lat(1.25), lon(2), lat(0.25), lon(0))).isEqualTo(25.0, within(1e-6));
+    }
+
+    @Test
+    void segmentThroughGridCornerSkipsSideCells() throws Exception {
+        // 꼭짓점 (1, 1) 을 정확히 지나므로 옆 셀은 길이 0
+        SafetyRaster raster = raster(2, 2, 10, 90, 90, 30);
+
+        assertThat(raster.segmentScore(lat(0.5), lon(0.5), lat(1.5), lon(1.5))).isEqualTo(20.0, within(1e-6));
+        assertThat(raster.segmentScore(lat(1.5), lon(0.5), lat(0.5), lon(1.5))).isEqualTo(90.0, within(1e-6));
+    }
+
+    @Test
+    void outsideGridAndNoDataCellsUseNoDataScore() throws Exception {
+        SafetyRaster raster = raster(1, 3, 10, 20, SafetyRaster.NO_DATA);
+
+        assertThat(raster.score(lat(0.5), lon(2.5))).isEqualTo(NO_DATA_SCORE);
+        assertThat(raster.score(lat(-0.5), lon(0.5))).isEqualTo(NO_DATA_SCORE);
+        assertThat(raster.score(lat(0.5), lon(3.5))).isEqualTo(NO_DATA_SCORE);
+        // 열 0.5 ~ 4.5: 10 * 0.5 + 20 + 40 (데이터 없음) + 40 * 1.5 (격자 밖) = 125 / 4
+        assertThat(raster.segmentScore(lat(0.5), lon(0.5), lat(0.5), lon(4.5))).isEqualTo(31.25, within(1e-6));
+        // 격자 밖에서 시작해 안으로 들어오는 구간: 40 * 1.5 + 10 * 0.5 = 65 / 2
+        assertThat(raster.segmentScore(lat(0.5), lon(-1.5), lat(0.5), lon(0.5))).isEqualTo(32.5, within(1e-6));
+        assertThat(raster.segmentScore(lat(-3), lon(-3), lat(-2), lon(-1))).isEqualTo(NO_DATA_SCORE, within(1e-6));
+    }
+
+    @Test
+    void routeScoreIsLengthWeightedAcrossSegments() throws Exception {
+        SafetyRaster raster = raster(1, 4, 10, 20, 30, 40);
+        double[] coordinates = {lat(0.5), lon(0.5), lat(0.5), lon(1.5), lat(0.5), lon(3.5)};
+
+        // 열 0.5 ~ 1.5 (평균 15) 와 1.5 ~ 3.5 (평균 30) 를 길이 1 : 2 로 평균 -> 25
+        assertThat(raster.score(coordinates)).isEqualTo(25);
+        assertThat(raster.score(List.of(
+                List.of(lat(0.5), lon(0.5)), List.of(lat(0.5), lon(1.5)), List.of(lat(0.5), lon(3.5)))))
+                .isEqualTo(25);
+    }
+
+    @Test
+    void singlePointAndEmptyRoutes() throws Exception {
+        SafetyRaster raster = raster(1, 2, 10, 30);
+
+        assertThat(raster.score(new double[]{lat(0.5), lon(1.5)})).isEqualTo(30);
+        assertThat(raster.score(new double[]{lat(0.5), lon(0.5), lat(0.5), lon(0.5)})).isEqualTo(10);
+        assertThat(raster.score(new double[0])).isEqualTo(NO_DATA_SCORE);
+        assertThat(raster.score(List.<List<Double>>of())).isEqualTo(NO_DATA_SCORE);
+    }
+
+    private SafetyRaster raster(int rows, int cols, int... scores) throws Exception {
+        byte[] cells = new byte[rows * cols];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (byte) scores[i];
+        }
+        Path file = dir.resolve("raster-" + rows + "x" + cols + ".ssr");
+        SafetyRaster.write(file, rows, cols, 0, 0, CELL_E6, CELL_E6, NO_DATA_SCORE, cells);
+        return SafetyRaster.open(file);
+    }
+
+    // 격자 좌표 (행/열 단위) -> 위도/경도
+    private static double lat(double row) {
+        return row * CELL;
+    }
+
+    private static double lon(double col) {
+        return col * CELL;
+    }
+}